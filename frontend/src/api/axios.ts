@@ -1,4 +1,5 @@
-import axios from 'axios';
+import axios, { type AxiosError, type InternalAxiosRequestConfig } from 'axios';
+import { type AuthResponse } from '../types';
 
 export const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
 
@@ -9,6 +10,16 @@ const api = axios.create({
   },
 });
 
+export const storeTokens = (tokens: AuthResponse) => {
+  localStorage.setItem('token', tokens.accessToken);
+  localStorage.setItem('refreshToken', tokens.refreshToken);
+};
+
+export const clearTokens = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+};
+
 api.interceptors.request.use(
   (config) => {
     const token = localStorage.getItem('token');
@@ -22,4 +33,83 @@ api.interceptors.request.use(
   }
 );
 
+// Refresh tokens are single use: concurrent 401s in a tab share one refresh request, and tabs
+// take turns through a Web Lock so no tab presents a token another tab has already rotated
+let refreshing: Promise<string> | null = null;
+
+// A throttled refresh (429) leaves the token unused, so wait as told and present it again
+const REFRESH_ATTEMPTS = 3;
+const MAX_REFRESH_BACKOFF_MS = 10_000;
+
+const sleep = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
+
+const postRefresh = async (refreshToken: string) => {
+  for (let attempt = 1; ; attempt++) {
+    try {
+      return await axios.post<AuthResponse>(`${API_URL}/auth/refresh`, { refreshToken });
+    } catch (error) {
+      const response = (error as AxiosError).response;
+      if (response?.status !== 429 || attempt >= REFRESH_ATTEMPTS) {
+        throw error;
+      }
+      const retryAfterSeconds = Number(response.headers['retry-after']) || attempt;
+      await sleep(Math.min(retryAfterSeconds * 1000, MAX_REFRESH_BACKOFF_MS));
+    }
+  }
+};
+
+const rotateTokens = async (rejectedToken: string | null): Promise<string> => {
+  const accessToken = localStorage.getItem('token');
+  // Another tab refreshed while this one was waiting
+  if (accessToken && accessToken !== rejectedToken) {
+    return accessToken;
+  }
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    throw new Error('No refresh token');
+  }
+  const response = await postRefresh(refreshToken);
+  storeTokens(response.data);
+  return response.data.accessToken;
+};
+
+const refreshAccessToken = (rejectedToken: string | null): Promise<string> => {
+  if (!refreshing) {
+    const rotate = () => rotateTokens(rejectedToken);
+    // Web Locks need a secure context; without them the localStorage re-read still covers most races
+    refreshing = (navigator.locks ? navigator.locks.request('auth-refresh', rotate) : rotate())
+      .catch((error) => {
+        // Only a rejected token ends the session; throttling and network errors keep it for the next try
+        const status = (error as AxiosError).response?.status;
+        if (!axios.isAxiosError(error) || (status !== undefined && status !== 429)) {
+          clearTokens();
+        }
+        throw error;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+api.interceptors.response.use(
+  (response) => response,
+  async (error: AxiosError) => {
+    const request = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+    if (error.response?.status !== 401 || !request || request._retried || request.url?.startsWith('/auth/')) {
+      return Promise.reject(error);
+    }
+    request._retried = true;
+    const rejectedToken = String(request.headers.Authorization ?? '').replace(/^Bearer /, '') || null;
+    try {
+      const token = await refreshAccessToken(rejectedToken);
+      request.headers.Authorization = `Bearer ${token}`;
+      return api(request);
+    } catch {
+      return Promise.reject(error);
+    }
+  }
+);
+
 export default api;
@@ -3,11 +3,15 @@ import SockJS from 'sockjs-client';
 import { Client, over } from 'stompjs';
 import { useAuth } from '../hooks/useAuth';
 import { chatService } from '../services/chat.service';
-import { type ChatRoom, type ChatMessage } from '../types';
+import { type ChatRoom, type ChatMessage, type TypingEvent, type PresenceEvent, type ReadReceipt } from '../types';
 import { API_URL } from '../api/axios';
-import { Send, X, MessageSquare, User, Loader2, Minimize2 } from 'lucide-react';
+import { Send, X, MessageSquare, User, Loader2, Minimize2, Check, CheckCheck } from 'lucide-react';
 import { format } from 'date-fns';
 
+// Typing events are re-sent while typing; the indicator clears if none arrives for this long
+const TYPING_SEND_INTERVAL_MS = 2000;
+const TYPING_DISPLAY_MS = 5000;
+
 interface ChatWindowProps {
   onClose: () => void;
   initialRoomId?: number | null;
@@ -27,6 +31,9 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
   const subscriptionsRef = useRef<{ [key: number]: any }>({});
   const activeRoomRef = useRef<ChatRoom | null>(null);
   const stompClientRef = useRef<Client | null>(null);
+  const [typingRooms, setTypingRooms] = useState<{ [key: number]: boolean }>({});
+  const typingTimeoutsRef = useRef<{ [key: number]: ReturnType<typeof setTimeout> }>({});
+  const lastTypingSentRef = useRef(0);
 
   useEffect(() => {
     fetchRooms();
@@ -47,6 +54,10 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
 
   useEffect(() => {
     activeRoomRef.current = activeRoom;
+  }, [activeRoom]);
+
+  // Keyed on the id: presence and read receipts replace the room object without switching rooms
+  useEffect(() => {
     if (activeRoom) {
       fetchHistory(activeRoom.id);
       // Reset unread count for active room locally
@@ -57,7 +68,7 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
         ));
       }
     }
-  }, [activeRoom]);
+  }, [activeRoom?.id]);
 
   useEffect(() => {
     if (user && !stompClientRef.current) {
@@ -81,6 +92,8 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
       // Subscribe to user notifications (e.g., new chat rooms)
       const sub = stompClientRef.current.subscribe(`/topic/user/${user.id}/notifications`, (payload) => {
         const newRoom = JSON.parse(payload.body);
+        // Notification events share this topic; only chat room payloads are handled here
+        if (newRoom.type) return;
         setRooms(prev => {
           if (prev.find(r => r.id === newRoom.id)) return prev;
           return [newRoom, ...prev];
@@ -109,9 +122,13 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
         if (!subscriptionsRef.current[room.id]) {
           try {
             console.log(`Subscribing to room ${room.id}`);
-            const sub = stompClientRef.current.subscribe(`/topic/chat/${room.id}`, (payload) => {
+            const client = stompClientRef.current;
+            const messageSub = client.subscribe(`/topic/chat/${room.id}`, (payload) => {
               const message = JSON.parse(payload.body);
               const isFromMe = message.senderId === user?.id;
+              if (!isFromMe) {
+                showTyping(room.id, false);
+              }
               
               if (activeRoomRef.current?.id === room.id) {
                 setMessages(prev => [...prev, message]);
@@ -131,9 +148,36 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
                   : r
               ));
             });
-            if (sub) {
-              subscriptionsRef.current[room.id] = sub;
-            }
+            const typingSub = client.subscribe(`/topic/chat/${room.id}/typing`, (payload) => {
+              const event: TypingEvent = JSON.parse(payload.body);
+              if (event.userId !== user?.id) {
+                showTyping(room.id, event.typing);
+              }
+            });
+            const presenceSub = client.subscribe(`/topic/chat/${room.id}/presence`, (payload) => {
+              const event: PresenceEvent = JSON.parse(payload.body);
+              if (event.userId !== user?.id) {
+                setRooms(prevRooms => prevRooms.map(r =>
+                  r.id === room.id ? { ...r, counterpartOnline: event.online } : r
+                ));
+                setActiveRoom(prev => prev?.id === room.id ? { ...prev, counterpartOnline: event.online } : prev);
+              }
+            });
+            // Receipts arrive after the server's coalescing window, not on every read
+            const readSub = client.subscribe(`/topic/chat/${room.id}/read`, (payload) => {
+              const receipt: ReadReceipt = JSON.parse(payload.body);
+              if (receipt.userId !== user?.id) {
+                const markRead = (r: ChatRoom) => ({
+                  ...r,
+                  counterpartLastReadMessageId: Math.max(r.counterpartLastReadMessageId || 0, receipt.lastReadMessageId)
+                });
+                setRooms(prevRooms => prevRooms.map(r => r.id === room.id ? markRead(r) : r));
+                setActiveRoom(prev => prev?.id === room.id ? markRead(prev) : prev);
+              }
+            });
+            subscriptionsRef.current[room.id] = {
+              unsubscribe: () => [messageSub, typingSub, presenceSub, readSub].forEach(sub => sub?.unsubscribe())
+            };
           } catch (error) {
             console.error('Error subscribing to room:', room.id, error);
           }
@@ -142,6 +186,24 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
     }
   }, [rooms, isConnected, user?.id]);
 
+  const showTyping = (roomId: number, typing: boolean) => {
+    clearTimeout(typingTimeoutsRef.current[roomId]);
+    setTypingRooms(prev => ({ ...prev, [roomId]: typing }));
+    if (typing) {
+      typingTimeoutsRef.current[roomId] = setTimeout(() => {
+        setTypingRooms(prev => ({ ...prev, [roomId]: false }));
+      }, TYPING_DISPLAY_MS);
+    }
+  };
+
+  const notifyTyping = () => {
+    const now = Date.now();
+    if (activeRoom && stompClientRef.current?.connected && now - lastTypingSentRef.current > TYPING_SEND_INTERVAL_MS) {
+      lastTypingSentRef.current = now;
+      stompClientRef.current.send(`/app/chat/${activeRoom.id}/typing`, {}, JSON.stringify({ typing: true }));
+    }
+  };
+
   const scrollToBottom = () => {
     messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
   };
@@ -200,6 +262,8 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
       };
       
       stompClientRef.current.send("/app/chat", {}, JSON.stringify(chatMessage));
+      stompClientRef.current.send(`/app/chat/${activeRoom.id}/typing`, {}, JSON.stringify({ typing: false }));
+      lastTypingSentRef.current = 0;
       setNewMessage('');
     }
   };
@@ -256,10 +320,13 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
                     : 'hover:bg-white/50 text-gray-500'
                 }`}
               >
-                <div className={`h-10 w-10 rounded-xl flex items-center justify-center shrink-0 ${
+                <div className={`relative h-10 w-10 rounded-xl flex items-center justify-center shrink-0 ${
                   activeRoom?.id === room.id ? 'bg-primary text-white' : 'bg-gray-200 text-gray-500'
                 }`}>
                   <User className="h-5 w-5" />
+                  {room.counterpartOnline && (
+                    <span className="absolute -bottom-0.5 -right-0.5 h-3 w-3 rounded-full bg-emerald-500 border-2 border-white" />
+                  )}
                 </div>
                 <div className="text-left overflow-hidden">
                   <p className={`font-black text-sm truncate ${activeRoom?.id === room.id ? 'text-gray-900' : ''}`}>
@@ -311,9 +378,9 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
                    {user?.role === 'RECRUITER' ? activeRoom.candidateName : activeRoom.recruiterName}
                 </h4>
                 <div className="flex items-center gap-1.5 mt-1">
-                  <div className={`h-1.5 w-1.5 rounded-full ${isConnected ? 'bg-emerald-500 animate-pulse' : 'bg-gray-300'}`} />
+                  <div className={`h-1.5 w-1.5 rounded-full ${isConnected && activeRoom.counterpartOnline ? 'bg-emerald-500 animate-pulse' : 'bg-gray-300'}`} />
                   <span className="text-[10px] font-black uppercase tracking-widest text-gray-400">
-                    {isConnected ? 'Live Connection' : 'Offline'}
+                    {!isConnected ? 'Offline' : typingRooms[activeRoom.id] ? 'Typing...' : activeRoom.counterpartOnline ? 'Online' : 'Away'}
                   </span>
                 </div>
               </div>
@@ -348,6 +415,7 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
             ) : messages.length > 0 ? (
               messages.map((msg, idx) => {
                 const isMe = msg.senderId === user?.id;
+                const isSeen = isMe && msg.id !== undefined && msg.id <= (activeRoom.counterpartLastReadMessageId || 0);
                 return (
                   <div key={idx} className={`flex ${isMe ? 'justify-end' : 'justify-start'}`}>
                     <div className={`max-w-[80%] space-y-1`}>
@@ -358,8 +426,11 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
                       }`}>
                         <p className="text-sm font-medium leading-relaxed">{msg.content}</p>
                       </div>
-                      <p className={`text-[9px] font-black uppercase tracking-widest text-gray-400 px-1 ${isMe ? 'text-right' : ''}`}>
+                      <p className={`text-[9px] font-black uppercase tracking-widest text-gray-400 px-1 flex items-center gap-1 ${isMe ? 'justify-end' : ''}`}>
                         {msg.timestamp ? format(new Date(msg.timestamp), 'HH:mm') : 'Just now'}
+                        {isMe && (isSeen
+                          ? <CheckCheck className="h-3 w-3 text-primary" />
+                          : <Check className="h-3 w-3" />)}
                       </p>
                     </div>
                   </div>
@@ -392,7 +463,10 @@ const ChatWindow: React.FC<ChatWindowProps> = ({ onClose, initialRoomId }) => {
             <input
               type="text"
               value={newMessage}
-              onChange={(e) => setNewMessage(e.target.value)}
+              onChange={(e) => {
+                setNewMessage(e.target.value);
+                notifyTyping();
+              }}
               placeholder={
                 !isConnected 
                   ? "Connecting..." 
@@ -1,18 +1,40 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
+import SockJS from 'sockjs-client';
+import { Client, over } from 'stompjs';
 import { useAuth } from '../hooks/useAuth';
 import { useChat } from '../context/ChatContext';
 import { Briefcase, LogOut, User, Menu, X, Bell, Check, Clock, MessageSquare } from 'lucide-react';
 import { notificationService } from '../services/notification.service';
-import { type Notification } from '../types';
+import { type Notification, type NotificationEvent, type NotificationFeed } from '../types';
+import { API_URL } from '../api/axios';
 import { formatDistanceToNow } from 'date-fns';
 
+const RECONNECT_DELAY_MS = 5000;
+
+interface LoadedNotifications {
+  items: Notification[];
+  nextCursor: number | null;
+}
+
+// Replaces the newest page after a refetch but keeps older pages the user has already loaded
+const refreshNewestPage = (loaded: LoadedNotifications, page: NotificationFeed): LoadedNotifications => {
+  const oldestOnPage = page.content.length > 0 ? page.content[page.content.length - 1].id : null;
+  const older = page.hasNext && oldestOnPage !== null ? loaded.items.filter(n => n.id < oldestOnPage) : [];
+  return {
+    items: [...page.content, ...older],
+    nextCursor: older.length > 0 ? loaded.nextCursor : page.nextCursor
+  };
+};
+
 const Navbar: React.FC = () => {
   const { user, logout } = useAuth();
   const { openChat } = useChat();
   const navigate = useNavigate();
   const [isOpen, setIsOpen] = useState(false);
-  const [notifications, setNotifications] = useState<Notification[]>([]);
+  const [{ items: notifications, nextCursor }, setNotifications] =
+    useState<LoadedNotifications>({ items: [], nextCursor: null });
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
   const [unreadCount, setUnreadCount] = useState(0);
   const [isNotificationsOpen, setIsNotificationsOpen] = useState(false);
 
@@ -23,26 +45,93 @@ const Navbar: React.FC = () => {
           notificationService.getMyNotifications(),
           notificationService.getUnreadCount()
         ]);
-        setNotifications(data);
+        setNotifications(prev => refreshNewestPage(prev, data));
         setUnreadCount(count);
       } catch (error) {
         console.error('Failed to fetch notifications', error);
       }
     };
 
-    if (user) {
-      fetchNotifications();
-      const interval = setInterval(fetchNotifications, 30000); // Poll every 30s
-      return () => clearInterval(interval);
-    }
+    const fetchUnreadCount = async () => {
+      try {
+        setUnreadCount(await notificationService.getUnreadCount());
+      } catch (error) {
+        console.error('Failed to fetch unread count', error);
+      }
+    };
+
+    const handleEvent = (event: NotificationEvent) => {
+      // Chat room payloads share the topic and carry no event type
+      if (!event.type) return;
+      if (event.unreadCount != null) {
+        setUnreadCount(event.unreadCount);
+      } else {
+        // The server had no count cached; reading it once seeds the pushed counts
+        fetchUnreadCount();
+      }
+      const pushed = event.notification;
+      if (event.type === 'NOTIFICATION' && pushed) {
+        // Merged application notifications keep their id and move to the top
+        setNotifications(prev => ({ ...prev, items: [pushed, ...prev.items.filter(n => n.id !== pushed.id)] }));
+      }
+    };
+
+    if (!user) return;
+
+    // Loaded once, then kept current by pushed events; refetched after a reconnect to fill the gap
+    let client: Client | null = null;
+    let reconnectTimer: ReturnType<typeof setTimeout> | undefined;
+    let closed = false;
+    let connectedBefore = false;
+
+    const connect = () => {
+      const stomp = over(new SockJS(`${API_URL}/ws`));
+      stomp.debug = () => {};
+      client = stomp;
+      stomp.connect({ 'Authorization': `Bearer ${localStorage.getItem('token')}` }, () => {
+        stomp.subscribe(`/topic/user/${user.id}/notifications`, payload => handleEvent(JSON.parse(payload.body)));
+        if (connectedBefore) fetchNotifications();
+        connectedBefore = true;
+      }, () => {
+        if (!closed) reconnectTimer = setTimeout(connect, RECONNECT_DELAY_MS);
+      });
+    };
+
+    fetchNotifications();
+    connect();
+    return () => {
+      closed = true;
+      clearTimeout(reconnectTimer);
+      if (client?.connected) client.disconnect(() => {});
+    };
   }, [user]);
 
+  const handleLoadMore = async () => {
+    if (nextCursor === null || isLoadingMore) return;
+    setIsLoadingMore(true);
+    try {
+      const data = await notificationService.getMyNotifications(nextCursor);
+      setNotifications(prev => {
+        const seen = new Set(prev.items.map(n => n.id));
+        return {
+          items: [...prev.items, ...data.content.filter(n => !seen.has(n.id))],
+          nextCursor: data.nextCursor
+        };
+      });
+    } catch (error) {
+      console.error('Failed to load older notifications', error);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const handleMarkAsRead = async (id: number) => {
     try {
       await notificationService.markAsRead(id);
-      setNotifications(prev => 
-        prev.map(n => n.id === id ? { ...n, isRead: true } : n)
-      );
+      setNotifications(prev => ({
+        ...prev,
+        items: prev.items.map(n => n.id === id ? { ...n, isRead: true } : n)
+      }));
       setUnreadCount(prev => Math.max(0, prev - 1));
     } catch (error) {
       console.error('Failed to mark notification as read', error);
@@ -163,6 +252,15 @@ const Navbar: React.FC = () => {
                                     </div>
                                   </div>
                                 ))}
+                                {nextCursor !== null && (
+                                  <button
+                                    onClick={handleLoadMore}
+                                    disabled={isLoadingMore}
+                                    className="w-full p-3 text-[10px] font-black text-primary hover:bg-gray-50 uppercase tracking-wider disabled:text-gray-400"
+                                  >
+                                    {isLoadingMore ? 'Loading...' : 'Load older'}
+                                  </button>
+                                )}
                               </div>
                             ) : (
                               <div className="p-8 text-center">
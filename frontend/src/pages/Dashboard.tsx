@@ -52,8 +52,18 @@ const Dashboard: React.FC = () => {
 
   const handleStatusUpdate = async (appId: number, status: ApplicationStatus) => {
     try {
-      const updatedApp = await applicationService.updateApplicationStatus(appId, status);
+      const previous = recruiterApps.find(app => app.id === appId);
+      const updatedApp = await applicationService.updateApplicationStatus(appId, status, previous?.status);
       setRecruiterApps(prev => prev.map(app => app.id === appId ? updatedApp : app));
+      // Keep the server-side counters in step without refetching them
+      if (previous && previous.status !== status) {
+        const countKey = (s: ApplicationStatus) =>
+          s === 'APPLIED' ? 'appliedCount' : s === 'SHORTLISTED' ? 'shortlistedCount' : s === 'REJECTED' ? 'rejectedCount'
+            : s === 'HIRED' ? 'hiredCount' : 'inProgressCount';
+        setPostedJobs(prev => prev.map(job => job.id === updatedApp.job.id && job.stats
+          ? { ...job, stats: { ...job.stats, [countKey(previous.status)]: job.stats[countKey(previous.status)] - 1, [countKey(status)]: job.stats[countKey(status)] + 1 } }
+          : job));
+      }
     } catch (error) {
       console.error('Failed to update status', error);
     }
@@ -100,8 +110,8 @@ const Dashboard: React.FC = () => {
     { label: 'Shortlisted', value: applications.filter(a => a.status === 'SHORTLISTED').length, icon: <CheckCircle2 className="h-6 w-6 text-emerald-600" />, color: 'emerald' },
   ] : [
     { label: 'Jobs Posted', value: postedJobs.length, icon: <TrendingUp className="h-6 w-6 text-indigo-600" />, color: 'indigo' },
-    { label: 'Applicants', value: recruiterApps.length, icon: <Users className="h-6 w-6 text-primary" />, color: 'primary' },
-    { label: 'Shortlisted', value: recruiterApps.filter(a => a.status === 'SHORTLISTED').length, icon: <CheckCircle2 className="h-6 w-6 text-emerald-600" />, color: 'emerald' },
+    { label: 'Applicants', value: postedJobs.reduce((sum, job) => sum + (job.stats?.totalApplicants ?? 0), 0), icon: <Users className="h-6 w-6 text-primary" />, color: 'primary' },
+    { label: 'Shortlisted', value: postedJobs.reduce((sum, job) => sum + (job.stats?.shortlistedCount ?? 0), 0), icon: <CheckCircle2 className="h-6 w-6 text-emerald-600" />, color: 'emerald' },
   ];
 
   return (
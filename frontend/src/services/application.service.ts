@@ -3,7 +3,10 @@ import { type Application, type ApplicationStatus, type StatusHistory } from '..
 
 export const applicationService = {
   async applyToJob(jobId: number): Promise<Application> {
-    const response = await api.post('/applications', { jobId });
+    // Stable key per job so double-clicks and retries replay the first response instead of failing
+    const response = await api.post('/applications', { jobId }, {
+      headers: { 'Idempotency-Key': `apply-${jobId}` }
+    });
     return response.data;
   },
 
@@ -17,9 +20,10 @@ export const applicationService = {
     return response.data;
   },
 
-  async updateApplicationStatus(id: number, status: ApplicationStatus): Promise<Application> {
+  // expectedStatus makes the server reject the change (409) if someone else moved the application first
+  async updateApplicationStatus(id: number, status: ApplicationStatus, expectedStatus?: ApplicationStatus): Promise<Application> {
     const response = await api.patch(`/applications/${id}/status`, null, {
-      params: { status }
+      params: { status, expectedStatus }
     });
     return response.data;
   },
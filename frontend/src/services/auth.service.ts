@@ -1,25 +1,33 @@
-import api from '../api/axios';
-import { type User, type LoginRequest, type RegisterRequest } from '../types';
+import api, { storeTokens, clearTokens } from '../api/axios';
+import { type User, type LoginRequest, type RegisterRequest, type AuthResponse } from '../types';
 
 export const authService = {
   async login(data: LoginRequest) {
-    const response = await api.post('/auth/login', data);
+    const response = await api.post<AuthResponse>('/auth/login', data);
     if (response.data) {
-      localStorage.setItem('token', response.data);
+      storeTokens(response.data);
     }
     return response.data;
   },
 
   async register(data: RegisterRequest) {
-    const response = await api.post('/auth/register', data);
+    const response = await api.post<AuthResponse>('/auth/register', data);
     if (response.data) {
-      localStorage.setItem('token', response.data);
+      storeTokens(response.data);
     }
     return response.data;
   },
 
   logout() {
-    localStorage.removeItem('token');
+    const token = localStorage.getItem('token');
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      // Best effort: the tokens are dropped locally either way. The access token is passed
+      // explicitly because it is cleared before the request interceptor runs.
+      api.post('/auth/logout', { refreshToken }, token ? { headers: { Authorization: `Bearer ${token}` } } : undefined)
+        .catch(() => undefined);
+    }
+    clearTokens();
   },
 
   async getCurrentUser(): Promise<User> {
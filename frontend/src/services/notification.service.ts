@@ -1,9 +1,11 @@
 import api from '../api/axios';
-import { type Notification } from '../types';
+import { type NotificationFeed } from '../types';
 
 export const notificationService = {
-  async getMyNotifications(): Promise<Notification[]> {
-    const response = await api.get('/notifications');
+  async getMyNotifications(beforeId?: number, size = 20): Promise<NotificationFeed> {
+    const response = await api.get('/notifications', {
+      params: { beforeId, size }
+    });
     return response.data;
   },
 
@@ -16,6 +16,25 @@ export interface ChatRoom {
   lastMessage?: string;
   lastMessageTimestamp?: string;
   unreadCount?: number;
+  counterpartOnline?: boolean;
+  counterpartLastReadMessageId?: number;
+}
+
+export interface TypingEvent {
+  chatRoomId: number;
+  userId: number;
+  typing: boolean;
+}
+
+export interface ReadReceipt {
+  chatRoomId: number;
+  userId: number;
+  lastReadMessageId: number;
+}
+
+export interface PresenceEvent {
+  userId: number;
+  online: boolean;
 }
 
 export interface User {
@@ -32,7 +51,8 @@ export interface User {
 export interface Job {
   id: number;
   title: string;
-  description: string;
+  description?: string; // Only returned by GET /jobs/{id}
+  descriptionExcerpt?: string; // List endpoints return a short excerpt instead
   companyName: string;
   location: string;
   salaryRange?: string;
@@ -40,9 +60,21 @@ export interface Job {
   experienceLevel: string;
   createdAt: string;
   updatedAt: string;
+  stats?: JobStats; // Only returned by GET /jobs/my-jobs
 }
 
-export type ApplicationStatus = 'APPLIED' | 'SHORTLISTED' | 'REJECTED';
+export interface JobStats {
+  jobId: number;
+  appliedCount: number;
+  shortlistedCount: number;
+  rejectedCount: number;
+  inProgressCount: number; // SCREENING, INTERVIEW and OFFER
+  hiredCount: number;
+  totalApplicants: number;
+  lastAppliedAt?: string;
+}
+
+export type ApplicationStatus = 'APPLIED' | 'SCREENING' | 'SHORTLISTED' | 'INTERVIEW' | 'OFFER' | 'HIRED' | 'REJECTED';
 
 export interface Application {
   id: number;
@@ -68,6 +100,18 @@ export interface Notification {
   createdAt: string;
 }
 
+export interface NotificationFeed {
+  content: Notification[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
+export interface NotificationEvent {
+  type: 'NOTIFICATION' | 'UNREAD_COUNT';
+  unreadCount: number | null;
+  notification?: Notification;
+}
+
 export interface CandidateProfile {
   id: number;
   email: string;
@@ -92,6 +136,13 @@ export interface LoginRequest {
   password?: string;
 }
 
+export interface AuthResponse {
+  accessToken: string;
+  refreshToken: string;
+  tokenType: string;
+  expiresIn: number; // Access token lifetime in seconds
+}
+
 export interface RegisterRequest {
   email: string;
   password?: string;
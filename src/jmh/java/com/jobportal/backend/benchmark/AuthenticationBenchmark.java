@@ -0,0 +1,62 @@
+package com.jobportal.backend.benchmark;
+
+import com.jobportal.backend.config.JwtAuthenticationFilter;
+import com.jobportal.backend.config.JwtService;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.util.SecurityUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating a request: signing and verifying tokens, and the full
+ * JwtAuthenticationFilter pass including its revocation check, followed by SecurityUtils.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private SecurityUtils securityUtils;
+    private User recruiter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        jwtService = context.bean(JwtService.class);
+        filter = context.bean(JwtAuthenticationFilter.class);
+        securityUtils = context.bean(SecurityUtils.class);
+        recruiter = context.recruiter;
+        token = jwtService.generateAccessToken(recruiter);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateAccessToken(recruiter);
+    }
+
+    @Benchmark
+    public JwtService.AccessToken verifyToken() {
+        return jwtService.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public String filterAndResolveUser() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notifications/unread-count");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return securityUtils.getCurrentUserEmail();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
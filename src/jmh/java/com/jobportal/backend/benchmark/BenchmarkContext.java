@@ -0,0 +1,157 @@
+package com.jobportal.backend.benchmark;
+
+import com.jobportal.backend.BackendApplication;
+import com.jobportal.backend.model.Application;
+import com.jobportal.backend.model.ChatMessage;
+import com.jobportal.backend.model.ChatRoom;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.ChatMessageRepository;
+import com.jobportal.backend.repository.ChatRoomRepository;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application once per fork against an in-memory H2 database in PostgreSQL mode and
+ * seeds a recruiter with jobs, applicants and chat rooms. PostgreSQL-only startup tasks detect
+ * H2 and stay disabled, so the measured code paths are the portable ones.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+    static final int JOBS = 20;
+    static final int CANDIDATES = 200;
+    static final int CHAT_ROOMS = 50;
+    static final int MESSAGES_PER_ROOM = 10;
+
+    // Run with -p passwordAlgorithm=bcrypt,argon2 to compare the password encoders
+    @Param({"bcrypt"})
+    public String passwordAlgorithm;
+
+    ConfigurableApplicationContext context;
+    TransactionTemplate readOnly;
+    User recruiter;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "app.cors.allowed-origins=http://localhost:5173",
+                        "app.security.password.algorithm=" + passwordAlgorithm,
+                        // Benchmarks drive one user from one address far beyond any per-client limit
+                        "app.rate-limit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // Authenticates the calling benchmark thread the way JwtAuthenticationFilter does
+    void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+    }
+
+    private void seed() {
+        UserRepository userRepository = bean(UserRepository.class);
+        JobRepository jobRepository = bean(JobRepository.class);
+        ApplicationRepository applicationRepository = bean(ApplicationRepository.class);
+        ChatRoomRepository chatRoomRepository = bean(ChatRoomRepository.class);
+        ChatMessageRepository chatMessageRepository = bean(ChatMessageRepository.class);
+
+        recruiter = userRepository.save(User.builder()
+                .email("recruiter@benchmark.local")
+                .password("unused")
+                .role(User.Role.RECRUITER)
+                .firstName("Rita")
+                .lastName("Recruiter")
+                .build());
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add(Job.builder()
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the services behind a busy job portal. ".repeat(20))
+                    .companyName("Benchmark Corp")
+                    .location(i % 2 == 0 ? "Remote" : "Berlin")
+                    .salaryRange("80k-100k")
+                    .jobType("FULL_TIME")
+                    .experienceLevel("MID")
+                    .recruiter(recruiter)
+                    .build());
+        }
+        jobs = jobRepository.saveAll(jobs);
+
+        List<User> candidates = new ArrayList<>();
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(User.builder()
+                    .email("candidate" + i + "@benchmark.local")
+                    .password("unused")
+                    .role(User.Role.CANDIDATE)
+                    .firstName("Candidate")
+                    .lastName(String.valueOf(i))
+                    .build());
+        }
+        candidates = userRepository.saveAll(candidates);
+
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < CANDIDATES; i++) {
+            applications.add(Application.builder()
+                    .user(candidates.get(i))
+                    .job(jobs.get(i % JOBS))
+                    .status(Application.ApplicationStatus.APPLIED)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        }
+        applicationRepository.saveAll(applications);
+
+        for (int i = 0; i < CHAT_ROOMS; i++) {
+            ChatRoom room = chatRoomRepository.save(ChatRoom.builder()
+                    .recruiter(recruiter)
+                    .candidate(candidates.get(i))
+                    .build());
+            List<ChatMessage> messages = new ArrayList<>();
+            for (int m = 0; m < MESSAGES_PER_ROOM; m++) {
+                messages.add(ChatMessage.builder()
+                        .chatRoom(room)
+                        .sender(m % 2 == 0 ? recruiter : candidates.get(i))
+                        .content("Message " + m)
+                        .build());
+            }
+            chatMessageRepository.saveAll(messages);
+        }
+    }
+}
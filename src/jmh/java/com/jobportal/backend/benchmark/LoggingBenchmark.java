@@ -0,0 +1,93 @@
+package com.jobportal.backend.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import com.jobportal.backend.config.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput over real HTTP with logging off, at the default INFO level (hot-path
+ * statements suppressed) and with the application loggers at DEBUG (every hot-path statement
+ * written), through the async appender or directly through the file appender it wraps. The
+ * console appender is detached so the forked JVM's output stays readable; the JSON file under
+ * ./logs receives the events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String APPLICATION_LOGGER = "com.jobportal.backend";
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    public String level;
+
+    @Param({"async", "sync"})
+    public String pipeline;
+
+    private HttpClient client;
+    private HttpRequest jobs;
+    private HttpRequest chatRooms;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        // Only the application's own statements go to DEBUG; framework DEBUG output would dominate
+        LogLevel applicationLevel = LogLevel.valueOf(level);
+        LoggingSystem loggingSystem = context.bean(LoggingSystem.class);
+        loggingSystem.setLogLevel(LoggingSystem.ROOT_LOGGER_NAME,
+                applicationLevel == LogLevel.OFF ? LogLevel.OFF : LogLevel.INFO);
+        loggingSystem.setLogLevel(APPLICATION_LOGGER, applicationLevel);
+
+        Logger root = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAppender("AsyncConsole");
+        if ("sync".equals(pipeline)) {
+            Appender<ILoggingEvent> async = root.getAppender("AsyncRollingFile");
+            Appender<ILoggingEvent> file = ((AsyncAppenderBase<ILoggingEvent>) async).getAppender("RollingFile");
+            root.detachAppender(async);
+            root.addAppender(file);
+        }
+
+        String baseUrl = "http://localhost:" + context.context.getEnvironment().getProperty("local.server.port");
+        String token = context.bean(JwtService.class).generateAccessToken(context.recruiter);
+        client = HttpClient.newHttpClient();
+        jobs = HttpRequest.newBuilder(URI.create(baseUrl + "/jobs?search=engineer&size=10")).GET().build();
+        chatRooms = HttpRequest.newBuilder(URI.create(baseUrl + "/chat/rooms"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @Benchmark
+    public int searchJobs() throws IOException, InterruptedException {
+        return send(jobs);
+    }
+
+    @Benchmark
+    public int listChatRooms() throws IOException, InterruptedException {
+        return send(chatRooms);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobportal.backend.benchmark;
+
+import com.jobportal.backend.dto.AuthResponse;
+import com.jobportal.backend.dto.LoginRequest;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.service.AuthService;
+import com.jobportal.backend.service.PasswordHashingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throughput through AuthService: user lookup, password verification on the hashing pool
+ * at the calibrated cost, and token generation. With a single caller the score is the
+ * throughput of one core; with as many callers as cores it shows how the bounded pool scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LoginBenchmark {
+    private static final String PASSWORD = "benchmark-Passw0rd";
+
+    private AuthService authService;
+    private LoginRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        authService = context.bean(AuthService.class);
+        User user = context.bean(UserRepository.class).save(User.builder()
+                .email("login@benchmark.local")
+                .password(context.bean(PasswordHashingService.class).encodeAndWait(PASSWORD))
+                .role(User.Role.CANDIDATE)
+                .firstName("Login")
+                .lastName("Benchmark")
+                .build());
+        request = new LoginRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(PASSWORD);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AuthResponse loginOneCore() {
+        return authService.login(request).join();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public AuthResponse loginAllCores() {
+        return authService.login(request).join();
+    }
+}
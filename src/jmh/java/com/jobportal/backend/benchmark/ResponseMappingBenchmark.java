@@ -0,0 +1,52 @@
+package com.jobportal.backend.benchmark;
+
+import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.ChatRoomDTO;
+import com.jobportal.backend.service.ApplicationService;
+import com.jobportal.backend.service.ChatService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on the recruiter dashboard: ApplicationService.convertToResponse for
+ * every application of the recruiter and ChatService.mapToChatRoomDTO for every chat room. Runs
+ * inside a read-only transaction, as requests do with open-in-view, so lazy loads are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+    private ApplicationService applicationService;
+    private ChatService chatService;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        applicationService = context.bean(ApplicationService.class);
+        chatService = context.bean(ChatService.class);
+        readOnly = context.readOnly;
+        context.authenticate(context.recruiter);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public List<ApplicationResponse> recruiterApplications() {
+        return readOnly.execute(status -> applicationService.getApplicationsForRecruiter());
+    }
+
+    @Benchmark
+    public List<ChatRoomDTO> recruiterChatRooms() {
+        return readOnly.execute(status -> chatService.getUserChatRooms());
+    }
+}
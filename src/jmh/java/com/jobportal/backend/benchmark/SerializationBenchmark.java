@@ -0,0 +1,67 @@
+package com.jobportal.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobSummaryResponse;
+import com.jobportal.backend.service.JobService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of job listing pages with the application's configured ObjectMapper, the
+ * way the controllers return them: the summary page served by GET /jobs and a page of full
+ * JobResponse objects for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private Page<JobSummaryResponse> summaryPage;
+    private Page<JobResponse> fullPage;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        objectMapper = context.bean(ObjectMapper.class);
+        summaryPage = context.bean(JobService.class).getAllJobs(0, PAGE_SIZE, "createdAt", null, null, null);
+
+        List<JobResponse> jobs = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            jobs.add(JobResponse.builder()
+                    .id((long) i)
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the services behind a busy job portal. ".repeat(20))
+                    .companyName("Benchmark Corp")
+                    .location("Remote")
+                    .salaryRange("80k-100k")
+                    .jobType("FULL_TIME")
+                    .experienceLevel("MID")
+                    .createdAt(LocalDateTime.now())
+                    .lastModifiedAt(LocalDateTime.now())
+                    .build());
+        }
+        fullPage = new PageImpl<>(jobs, PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] fullPage() throws Exception {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobportal.backend.loadtest;
+
+import java.util.List;
+
+/**
+ * A seeded user the traffic generator acts as.
+ */
+record Actor(long id, String email, String token, boolean recruiter, List<Long> chatRoomIds) {
+}
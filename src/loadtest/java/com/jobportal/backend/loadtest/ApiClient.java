@@ -0,0 +1,80 @@
+package com.jobportal.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal JSON-over-HTTP client for the backend REST API.
+ */
+class ApiClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl, int connections) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, connections / 4)))
+                .build();
+    }
+
+    record Response(int status, String body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET().build());
+    }
+
+    Response post(String path, String token, Object body) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body == null ? "" : objectMapper.writeValueAsString(body)))
+                .build());
+    }
+
+    // Sends a JSON object as a single named part, as @RequestPart endpoints expect
+    Response postJsonPart(String path, String token, String part, Object body) throws IOException, InterruptedException {
+        String boundary = "loadtest" + UUID.randomUUID();
+        String multipart = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + part + "\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + objectMapper.writeValueAsString(body) + "\r\n"
+                + "--" + boundary + "--\r\n";
+        return send(request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(multipart, StandardCharsets.UTF_8))
+                .build());
+    }
+
+    JsonNode json(Response response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobportal.backend.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP chat sessions that each send a message to one of their rooms at a fixed interval and
+ * measure the time until the broadcast comes back on /topic/chat/{id}, i.e. the full path through
+ * the inbound interceptor, ChatService.saveMessage and the broker.
+ */
+class ChatSessions implements AutoCloseable {
+    static final String ROUND_TRIP = "STOMP /app/chat round-trip";
+
+    private final WebSocketStompClient client;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final EndpointMetrics metrics;
+
+    ChatSessions(EndpointMetrics metrics) {
+        this.metrics = metrics;
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("chat-load-");
+        scheduler.initialize();
+        client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setTaskScheduler(scheduler);
+    }
+
+    void start(String baseUrl, List<Actor> recruiters, int count, long intervalMillis) throws Exception {
+        String url = baseUrl.replaceFirst("^http", "ws") + "/ws";
+        List<Actor> withRooms = recruiters.stream().filter(r -> !r.chatRoomIds().isEmpty()).toList();
+        for (int i = 0; i < count && !withRooms.isEmpty(); i++) {
+            Actor actor = withRooms.get(i % withRooms.size());
+            long roomId = actor.chatRoomIds().get((i / withRooms.size()) % actor.chatRoomIds().size());
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + actor.token());
+            StompSession session = client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                    new StompSessionHandlerAdapter() {
+                    }).get(10, TimeUnit.SECONDS);
+            session.subscribe("/topic/chat/" + roomId, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    Object content = ((Map<?, ?>) payload).get("content");
+                    Long sentAt = content == null ? null : pending.remove(content.toString());
+                    if (sentAt != null) {
+                        metrics.record(ROUND_TRIP, System.nanoTime() - sentAt, true);
+                    }
+                }
+            });
+            sessions.add(session);
+
+            int sessionIndex = i;
+            scheduler.scheduleAtFixedRate(() -> send(session, roomId, sessionIndex),
+                    Duration.ofMillis(intervalMillis));
+        }
+        System.out.printf("[chat] Opened %d STOMP sessions%n", sessions.size());
+    }
+
+    private void send(StompSession session, long roomId, int sessionIndex) {
+        if (!session.isConnected()) {
+            return;
+        }
+        String content = "load " + sessionIndex + " " + System.nanoTime();
+        pending.put(content, System.nanoTime());
+        try {
+            session.send("/app/chat", Map.of("chatRoomId", roomId, "content", content));
+        } catch (RuntimeException e) {
+            pending.remove(content);
+            metrics.record(ROUND_TRIP, 0, false);
+        }
+    }
+
+    // Messages that never came back within the timeout count as errors
+    void expire(long timeoutNanos) {
+        long now = System.nanoTime();
+        pending.entrySet().removeIf(entry -> {
+            if (now - entry.getValue() > timeoutNanos) {
+                metrics.record(ROUND_TRIP, now - entry.getValue(), false);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public void close() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        client.stop();
+        scheduler.shutdown();
+    }
+}
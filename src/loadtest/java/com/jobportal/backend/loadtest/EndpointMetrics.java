@@ -0,0 +1,49 @@
+package com.jobportal.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint. Samples are only kept while recording is
+ * enabled, so the warmup phase does not skew the percentiles.
+ */
+class EndpointMetrics {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    static final class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.latency.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    Map<String, Endpoint> snapshot() {
+        return new TreeMap<>(endpoints);
+    }
+}
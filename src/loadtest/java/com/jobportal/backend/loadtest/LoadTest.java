@@ -0,0 +1,176 @@
+package com.jobportal.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test against a running backend and its local database. Seeds data through the
+ * API, measures statements per request for every operation in isolation (when a JDBC URL is
+ * given), then runs closed-loop virtual users with the {@link TrafficMix} plus STOMP chat
+ * sessions, and reports throughput and latency percentiles per endpoint.
+ *
+ * <p>Run with: {@code mvn -Ploadtest test-compile exec:java -Dloadtest.jdbc-url=jdbc:postgresql://localhost:5432/job_portal}
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ApiClient api = new ApiClient(settings.baseUrl(), settings.virtualUsers());
+        System.out.printf("[run] %s against %s%n", settings.runId(), settings.baseUrl());
+
+        Seeder.SeedResult seeded = new Seeder(api, settings).seed();
+
+        EndpointMetrics metrics = new EndpointMetrics();
+        Map<String, Double> queriesPerRequest = new LinkedHashMap<>();
+        double overallQueriesPerRequest = Double.NaN;
+
+        try (QueryCounter queries = QueryCounter.connect(settings);
+             ChatSessions chat = new ChatSessions(metrics)) {
+            if (queries != null) {
+                calibrate(api, seeded, settings, queries, queriesPerRequest);
+            }
+
+            chat.start(settings.baseUrl(), seeded.recruiters(), settings.chatSessions(),
+                    settings.chatInterval().toMillis());
+            List<Thread> users = startVirtualUsers(api, seeded, settings, metrics);
+
+            System.out.printf("[run] Warming up for %ds%n", settings.warmup().toSeconds());
+            Thread.sleep(settings.warmup().toMillis());
+            long queriesBefore = queries != null ? queries.total() : 0;
+            metrics.startRecording();
+            long started = System.nanoTime();
+            System.out.printf("[run] Measuring for %ds%n", settings.duration().toSeconds());
+            long deadline = started + settings.duration().toNanos();
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(1000);
+                chat.expire(TimeUnit.SECONDS.toNanos(10));
+            }
+            metrics.stopRecording();
+            double seconds = (System.nanoTime() - started) / 1e9;
+            if (queries != null) {
+                long requests = metrics.snapshot().values().stream()
+                        .mapToLong(endpoint -> endpoint.latency.getTotalCount()).sum();
+                overallQueriesPerRequest = requests == 0 ? 0 : (double) queries.since(queriesBefore) / requests;
+            }
+
+            users.forEach(Thread::interrupt);
+            for (Thread user : users) {
+                user.join(5000);
+            }
+            report(settings, metrics, seconds, queriesPerRequest, overallQueriesPerRequest);
+        }
+        System.exit(0);
+    }
+
+    private static List<Thread> startVirtualUsers(ApiClient api, Seeder.SeedResult seeded, LoadTestSettings settings,
+                                                  EndpointMetrics metrics) {
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < settings.virtualUsers(); i++) {
+            boolean recruiter = ThreadLocalRandom.current().nextDouble() < settings.recruiterShare();
+            List<Actor> pool = recruiter ? seeded.recruiters() : seeded.candidates();
+            Actor actor = pool.get(i % pool.size());
+            List<TrafficMix.Operation> operations = recruiter ? TrafficMix.RECRUITER : TrafficMix.CANDIDATE;
+
+            Thread user = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    TrafficMix.Operation operation = TrafficMix.pick(operations);
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = operation.succeeded(operation.call().execute(api, actor, seeded.jobIds()));
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    metrics.record(operation.name(), System.nanoTime() - start, success);
+                    try {
+                        Thread.sleep(settings.thinkTime().toMillis());
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "virtual-user-" + i);
+            user.setDaemon(true);
+            user.start();
+            users.add(user);
+        }
+        System.out.printf("[run] Started %d virtual users%n", users.size());
+        return users;
+    }
+
+    // Runs each operation alone so its statement count is not mixed with concurrent traffic
+    private static void calibrate(ApiClient api, Seeder.SeedResult seeded, LoadTestSettings settings,
+                                  QueryCounter queries, Map<String, Double> queriesPerRequest) throws Exception {
+        calibrate(api, seeded.candidates().get(0), TrafficMix.CANDIDATE, seeded.jobIds(), settings, queries,
+                queriesPerRequest, "candidate");
+        calibrate(api, seeded.recruiters().get(0), TrafficMix.RECRUITER, seeded.jobIds(), settings, queries,
+                queriesPerRequest, "recruiter");
+    }
+
+    private static void calibrate(ApiClient api, Actor actor, List<TrafficMix.Operation> operations, List<Long> jobIds,
+                                  LoadTestSettings settings, QueryCounter queries, Map<String, Double> queriesPerRequest,
+                                  String role) throws Exception {
+        for (TrafficMix.Operation operation : operations) {
+            long before = queries.total();
+            for (int i = 0; i < settings.calibrationRequests(); i++) {
+                operation.call().execute(api, actor, jobIds);
+            }
+            double perRequest = (double) queries.since(before) / settings.calibrationRequests();
+            queriesPerRequest.put(role + " " + operation.name(), perRequest);
+            System.out.printf("[queries] %-45s %6.1f statements/request%n", role + " " + operation.name(), perRequest);
+        }
+    }
+
+    private static void report(LoadTestSettings settings, EndpointMetrics metrics, double seconds,
+                               Map<String, Double> queriesPerRequest, double overallQueriesPerRequest) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-36s %8s %7s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s",
+                "p50 ms", "p99 ms", "p999 ms", "max ms");
+        metrics.snapshot().forEach((name, endpoint) -> {
+            Histogram latency = endpoint.latency;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", latency.getTotalCount());
+            row.put("errors", endpoint.errors.sum());
+            row.put("throughput", latency.getTotalCount() / seconds);
+            row.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+            row.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(latency.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(latency.getMaxValue()));
+            endpoints.put(name, row);
+            System.out.printf("%-36s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, latency.getTotalCount(),
+                    endpoint.errors.sum(), latency.getTotalCount() / seconds, row.get("p50Ms"), row.get("p99Ms"),
+                    row.get("p999Ms"), row.get("maxMs"));
+        });
+        if (!Double.isNaN(overallQueriesPerRequest)) {
+            System.out.printf("%nStatements per request under the mix: %.1f%n", overallQueriesPerRequest);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", settings.runId());
+        report.put("settings", settings);
+        report.put("durationSeconds", seconds);
+        report.put("endpoints", endpoints);
+        report.put("queriesPerRequest", queriesPerRequest);
+        report.put("queriesPerRequestUnderLoad", Double.isNaN(overallQueriesPerRequest) ? null : overallQueriesPerRequest);
+        File file = new File(settings.reportFile());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().findAndRegisterModules().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.printf("Report written to %s%n", file.getPath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.backend.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from {@code -Dloadtest.*} system properties.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        String runId,
+        int recruiters,
+        int jobsPerRecruiter,
+        int candidates,
+        int applicationsPerCandidate,
+        int chatRoomsPerRecruiter,
+        int seedThreads,
+        int virtualUsers,
+        double recruiterShare,
+        Duration thinkTime,
+        Duration warmup,
+        Duration duration,
+        int chatSessions,
+        Duration chatInterval,
+        int calibrationRequests,
+        String jdbcUrl,
+        String jdbcUser,
+        @JsonIgnore String jdbcPassword,
+        String reportFile) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                property("base-url", "http://localhost:8080"),
+                property("run-id", "lt" + Long.toString(System.currentTimeMillis(), 36)),
+                intProperty("recruiters", 10),
+                intProperty("jobs-per-recruiter", 20),
+                intProperty("candidates", 500),
+                intProperty("applications-per-candidate", 3),
+                intProperty("chat-rooms-per-recruiter", 10),
+                intProperty("seed-threads", 8),
+                intProperty("virtual-users", 50),
+                Double.parseDouble(property("recruiter-share", "0.2")),
+                Duration.ofMillis(intProperty("think-time-ms", 100)),
+                Duration.ofSeconds(intProperty("warmup-seconds", 30)),
+                Duration.ofSeconds(intProperty("duration-seconds", 120)),
+                intProperty("chat-sessions", 20),
+                Duration.ofMillis(intProperty("chat-interval-ms", 1000)),
+                intProperty("calibration-requests", 50),
+                property("jdbc-url", ""),
+                property("jdbc-user", "postgres"),
+                property("jdbc-password", ""),
+                property("report", "target/loadtest-report.json"));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
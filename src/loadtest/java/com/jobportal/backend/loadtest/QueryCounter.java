@@ -0,0 +1,60 @@
+package com.jobportal.backend.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts statements executed by the backend's database using the pg_stat_statements extension
+ * (CREATE EXTENSION pg_stat_statements, with the module in shared_preload_libraries). The
+ * counter's own query is excluded from every delta.
+ */
+class QueryCounter implements AutoCloseable {
+    private static final String TOTAL_CALLS = "SELECT COALESCE(SUM(calls), 0) FROM pg_stat_statements "
+            + "WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database())";
+
+    private final Connection connection;
+
+    private QueryCounter(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Returns null when no JDBC URL is configured or pg_stat_statements is not available.
+     */
+    static QueryCounter connect(LoadTestSettings settings) {
+        if (settings.jdbcUrl().isBlank()) {
+            return null;
+        }
+        try {
+            Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.jdbcUser(),
+                    settings.jdbcPassword());
+            QueryCounter counter = new QueryCounter(connection);
+            counter.total();
+            return counter;
+        } catch (SQLException e) {
+            System.out.println("[queries] Statement counting disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    long total() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(TOTAL_CALLS)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // Statements executed since the given total, minus the counter's own query
+    long since(long before) throws SQLException {
+        return Math.max(0, total() - before - 1);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,145 @@
+package com.jobportal.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Creates recruiters, jobs, candidates with profiles, applications and chat rooms through the
+ * public API, so every row is written by the same code paths production traffic uses. All users
+ * share the run id in their email, which keeps repeated runs against one database independent.
+ */
+class Seeder {
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] TITLES = {"Java Developer", "Frontend Engineer", "Data Engineer",
+            "DevOps Engineer", "Product Designer", "QA Engineer", "Engineering Manager", "Mobile Developer"};
+    private static final String[] LOCATIONS = {"Remote", "Berlin", "London", "Bangalore", "New York"};
+    private static final String[] JOB_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT", "INTERNSHIP"};
+    private static final String[] LEVELS = {"ENTRY", "MID", "SENIOR", "LEAD"};
+
+    private final ApiClient api;
+    private final LoadTestSettings settings;
+    private final Random random = new Random(42);
+
+    Seeder(ApiClient api, LoadTestSettings settings) {
+        this.api = api;
+        this.settings = settings;
+    }
+
+    record SeedResult(List<Actor> recruiters, List<Actor> candidates, List<Long> jobIds) {
+    }
+
+    SeedResult seed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.seedThreads());
+        try {
+            List<Actor> recruiters = runAll(executor, settings.recruiters(), i -> register("recruiter", i, "RECRUITER"));
+            List<Actor> candidates = runAll(executor, settings.candidates(), i -> {
+                Actor candidate = register("candidate", i, "CANDIDATE");
+                expectOk(api.postJsonPart("/candidates/profile", candidate.token(), "profile", Map.of(
+                        "firstName", "Candidate", "lastName", String.valueOf(i), "phone", "+100000" + i,
+                        "skills", "Java, Spring, SQL", "experience", (i % 10) + " years")), "create profile");
+                return candidate;
+            });
+            log("Registered %d recruiters and %d candidates", recruiters.size(), candidates.size());
+
+            List<List<Long>> jobsPerRecruiter = runAll(executor, recruiters.size(), i -> {
+                List<Long> ids = new ArrayList<>();
+                for (int j = 0; j < settings.jobsPerRecruiter(); j++) {
+                    ids.add(postJob(recruiters.get(i), j));
+                }
+                return ids;
+            });
+            List<Long> jobIds = jobsPerRecruiter.stream().flatMap(List::stream).toList();
+            log("Posted %d jobs", jobIds.size());
+
+            List<Long> shuffledJobs = new ArrayList<>(jobIds);
+            runAll(executor, candidates.size(), i -> {
+                Actor candidate = candidates.get(i);
+                for (int a = 0; a < Math.min(settings.applicationsPerCandidate(), shuffledJobs.size()); a++) {
+                    long jobId = shuffledJobs.get((i * 31 + a * 7) % shuffledJobs.size());
+                    api.post("/applications", candidate.token(), Map.of("jobId", jobId));
+                }
+                return null;
+            });
+            log("Submitted up to %d applications", candidates.size() * settings.applicationsPerCandidate());
+
+            List<Actor> recruitersWithRooms = runAll(executor, recruiters.size(), i -> {
+                Actor recruiter = recruiters.get(i);
+                List<Long> rooms = new ArrayList<>();
+                for (int r = 0; r < Math.min(settings.chatRoomsPerRecruiter(), candidates.size()); r++) {
+                    Actor candidate = candidates.get((i * settings.chatRoomsPerRecruiter() + r) % candidates.size());
+                    ApiClient.Response response = expectOk(api.post("/chat/initiate", recruiter.token(),
+                            Map.of("candidateId", candidate.id())), "initiate chat");
+                    rooms.add(api.json(response).get("id").asLong());
+                }
+                return new Actor(recruiter.id(), recruiter.email(), recruiter.token(), true, rooms);
+            });
+            log("Opened %d chat rooms", recruitersWithRooms.stream().mapToInt(r -> r.chatRoomIds().size()).sum());
+
+            Collections.shuffle(candidates, random);
+            return new SeedResult(recruitersWithRooms, candidates, jobIds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Actor register(String kind, int index, String role) throws Exception {
+        String email = settings.runId() + "-" + kind + index + "@loadtest.example.com";
+        ApiClient.Response response = expectOk(api.post("/auth/register", null, Map.of(
+                "email", email, "password", PASSWORD, "role", role,
+                "firstName", kind, "lastName", String.valueOf(index))), "register " + email);
+        String token = api.json(response).get("accessToken").asText();
+        JsonNode me = api.json(expectOk(api.get("/users/me", token), "load profile"));
+        return new Actor(me.get("id").asLong(), email, token, "RECRUITER".equals(role), List.of());
+    }
+
+    private long postJob(Actor recruiter, int index) throws Exception {
+        String title = TITLES[(int) ((recruiter.id() + index) % TITLES.length)];
+        ApiClient.Response response = expectOk(api.post("/jobs", recruiter.token(), Map.of(
+                "title", title + " " + index,
+                "description", "We are looking for a " + title + " to join a fast growing team. ".repeat(10),
+                "companyName", "Company " + recruiter.id(),
+                "location", LOCATIONS[index % LOCATIONS.length],
+                "salaryRange", (50 + index % 10 * 10) + "k",
+                "jobType", JOB_TYPES[index % JOB_TYPES.length],
+                "experienceLevel", LEVELS[index % LEVELS.length])), "post job");
+        return api.json(response).get("id").asLong();
+    }
+
+    private static ApiClient.Response expectOk(ApiClient.Response response, String action) {
+        if (!response.ok()) {
+            throw new IllegalStateException("Seeding failed to " + action + ": HTTP " + response.status()
+                    + " " + response.body());
+        }
+        return response;
+    }
+
+    private interface IndexedTask<T> {
+        T run(int index) throws Exception;
+    }
+
+    private static <T> List<T> runAll(ExecutorService executor, int count, IndexedTask<T> task) throws Exception {
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(executor.submit((Callable<T>) () -> task.run(index)));
+        }
+        List<T> results = new ArrayList<>(count);
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[seed] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobportal.backend.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted REST operations per role, modelled on dashboard usage: candidates mostly search and
+ * poll notifications, recruiters mostly review applications and chat.
+ */
+class TrafficMix {
+    private static final String[] SEARCH_TERMS = {"java", "engineer", "remote", "data", "frontend",
+            "devops", "designer", "\"java developer\"", "eng*", "manager"};
+
+    interface Call {
+        ApiClient.Response execute(ApiClient api, Actor actor, List<Long> jobIds) throws Exception;
+    }
+
+    record Operation(String name, int weight, Call call, int... acceptedStatuses) {
+        boolean succeeded(ApiClient.Response response) {
+            if (response.ok()) {
+                return true;
+            }
+            for (int status : acceptedStatuses) {
+                if (response.status() == status) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final List<Operation> CANDIDATE = List.of(
+            new Operation("GET /jobs?search", 45, (api, actor, jobs) -> api.get("/jobs?size=10&page="
+                    + random(3) + "&search=" + URLEncoder.encode(SEARCH_TERMS[random(SEARCH_TERMS.length)],
+                    StandardCharsets.UTF_8), null)),
+            new Operation("GET /jobs", 10, (api, actor, jobs) -> api.get("/jobs?size=10&page=" + random(5), null)),
+            new Operation("GET /notifications/unread-count", 25, (api, actor, jobs) ->
+                    api.get("/notifications/unread-count", actor.token())),
+            new Operation("GET /chat/rooms", 10, (api, actor, jobs) -> api.get("/chat/rooms", actor.token())),
+            // Re-applying is expected to conflict once a candidate has applied to a job
+            new Operation("POST /applications", 5, (api, actor, jobs) -> api.post("/applications", actor.token(),
+                    Map.of("jobId", jobs.get(random(jobs.size())))), 409),
+            new Operation("GET /applications/user/{id}", 5, (api, actor, jobs) ->
+                    api.get("/applications/user/" + actor.id(), actor.token())));
+
+    static final List<Operation> RECRUITER = List.of(
+            new Operation("GET /jobs/my-jobs", 15, (api, actor, jobs) -> api.get("/jobs/my-jobs", actor.token())),
+            new Operation("GET /applications/recruiter", 25, (api, actor, jobs) ->
+                    api.get("/applications/recruiter", actor.token())),
+            new Operation("GET /notifications/unread-count", 35, (api, actor, jobs) ->
+                    api.get("/notifications/unread-count", actor.token())),
+            new Operation("GET /chat/rooms", 20, (api, actor, jobs) -> api.get("/chat/rooms", actor.token())),
+            new Operation("GET /chat/rooms/{id}/history", 5, (api, actor, jobs) -> actor.chatRoomIds().isEmpty()
+                    ? api.get("/chat/rooms", actor.token())
+                    : api.get("/chat/rooms/" + actor.chatRoomIds().get(random(actor.chatRoomIds().size()))
+                    + "/history", actor.token())));
+
+    static Operation pick(List<Operation> operations) {
+        int total = 0;
+        for (Operation operation : operations) {
+            total += operation.weight();
+        }
+        int roll = random(total);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    private TrafficMix() {
+    }
+}
@@ -3,11 +3,24 @@ package com.jobportal.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class BackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BackendApplication.class, args);
+		SpringApplication application = new SpringApplication(BackendApplication.class);
+		// Lowest precedence: environment variables and arguments still override these
+		application.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,prometheus",
+				"management.endpoint.health.probes.enabled", "true",
+				// Actuator (metrics included) only listens on the internal management port;
+				// load balancers still reach /livez and /readyz on the application port
+				"management.server.port", "8081",
+				"management.endpoint.health.probes.add-additional-paths", "true",
+				// Result set fetch spans add little over the query span and double the span volume
+				"jdbc.includes", "connection,query"));
+		application.run(args);
 	}
 
 }
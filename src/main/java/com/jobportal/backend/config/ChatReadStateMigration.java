@@ -0,0 +1,48 @@
+package com.jobportal.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the per-participant read watermarks on chat rooms from the per-message is_read flags
+ * they replace, so existing conversations keep their unread counts. Runs only while no room has
+ * a watermark yet, i.e. once on databases that predate the watermarks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadStateMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer migrated = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_rooms "
+                    + "WHERE recruiter_last_read_message_id IS NOT NULL OR candidate_last_read_message_id IS NOT NULL",
+                    Integer.class);
+            if (migrated != null && migrated > 0) {
+                return;
+            }
+            // Each side has read up to the newest message of the other side it had marked as read
+            int rooms = backfill("recruiter_last_read_message_id", "candidate_id")
+                    + backfill("candidate_last_read_message_id", "recruiter_id");
+            if (rooms > 0) {
+                log.info("Initialized {} chat read watermarks from message read flags", rooms);
+            }
+        } catch (Exception e) {
+            log.warn("Could not initialize chat read watermarks: {}", e.getMessage());
+        }
+    }
+
+    private int backfill(String watermarkColumn, String counterpartColumn) {
+        String readByParticipant = " FROM chat_messages m WHERE m.chat_room_id = chat_rooms.id "
+                + "AND m.sender_id = chat_rooms." + counterpartColumn + " AND m.is_read = true";
+        return jdbcTemplate.update("UPDATE chat_rooms SET " + watermarkColumn + " = (SELECT MAX(m.id)"
+                + readByParticipant + ") WHERE EXISTS (SELECT 1" + readByParticipant + ")");
+    }
+}
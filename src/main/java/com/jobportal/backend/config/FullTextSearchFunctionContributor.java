@@ -0,0 +1,40 @@
+package com.jobportal.backend.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text functions used by JobSpecification. The weighted tsvector
+ * expression must stay identical to the one indexed by FullTextSearchInitializer, otherwise the
+ * planner cannot use the GIN index. Nothing is registered on other dialects (e.g. MySQL), where
+ * JobSpecification keeps using LIKE predicates.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    static final String JOB_SEARCH_VECTOR =
+            "setweight(to_tsvector('english', coalesce(%s, '')), 'A')"
+            + " || setweight(to_tsvector('english', coalesce(%s, '')), 'B')"
+            + " || setweight(to_tsvector('english', coalesce(%s, '')), 'C')"
+            + " || setweight(to_tsvector('english', coalesce(%s, '')), 'D')";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        String vector = String.format(JOB_SEARCH_VECTOR, "?1", "?2", "?3", "?4");
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "job_fts_match", "((" + vector + ") @@ to_tsquery('english', ?5))", booleanType);
+        functionContributions.getFunctionRegistry().registerPattern(
+                "job_fts_rank", "ts_rank(" + vector + ", to_tsquery('english', ?5))", doubleType);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobportal.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects whether the database supports PostgreSQL full-text search and, if so, makes sure the
+ * GIN index over the weighted job search vector exists. On MySQL (or when disabled) job search
+ * falls back to LIKE predicates.
+ */
+@Slf4j
+@Component
+public class FullTextSearchInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile boolean fullTextEnabled;
+
+    public FullTextSearchInitializer(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.search.full-text.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("Full-text job search disabled, using LIKE search");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("Full-text job search not available on {}, using LIKE search", product);
+                return;
+            }
+
+            String vector = String.format(FullTextSearchFunctionContributor.JOB_SEARCH_VECTOR,
+                    "title", "company_name", "location", "description");
+            // CONCURRENTLY keeps the jobs table writable while the index is built on large catalogs
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (("
+                    + vector + "))");
+            fullTextEnabled = true;
+            log.info("Full-text job search enabled");
+        } catch (Exception e) {
+            log.warn("Could not enable full-text job search, using LIKE search: {}", e.getMessage());
+        }
+    }
+
+    public boolean isFullTextEnabled() {
+        return fullTextEnabled;
+    }
+}
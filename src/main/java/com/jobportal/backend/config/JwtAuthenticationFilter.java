@@ -1,29 +1,49 @@
 package com.jobportal.backend.config;
 
 import com.jobportal.backend.model.User;
-import com.jobportal.backend.repository.JobRepository;
-import com.jobportal.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests from the access token alone. The principal is a detached {@link User}
+ * carrying only the id, email and role from the token claims, not a loaded entity; services
+ * that need more load the user themselves. The verified {@link JwtService.AccessToken} is kept
+ * as the credentials so logout can revoke it.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final TokenRevocationList revocationList;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationList revocationList,
+                                   MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
-        this.userRepository = userRepository;
+        this.revocationList = revocationList;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(MetricsConfig.JWT_FILTER_TIMER)
+                .description("Time spent validating the token and checking revocation, excluding the rest of the chain")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -45,26 +65,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        long start = System.nanoTime();
+        Timer outcome = rejectedTimer;
         try {
-            String email = jwtService.extractEmail(jwt);
-
-            if (jwtService.isTokenValid(jwt)) {
-                userRepository.findByEmail(email).ifPresent(user -> {
-                    java.util.List<org.springframework.security.core.authority.SimpleGrantedAuthority> authorities =
-                            java.util.Collections.singletonList(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+            JwtService.AccessToken token = jwtService.parseAccessToken(jwt);
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            user, null, authorities
-                    );
+            if (!revocationList.isRevoked(token)) {
+                User user = User.builder()
+                        .id(token.userId())
+                        .email(token.email())
+                        .role(token.role())
+                        .build();
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        user, token, List.of(new SimpleGrantedAuthority("ROLE_" + token.role().name()))
+                );
 
-                    authToken.setDetails(new org.springframework.security.web.authentication.WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                });
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                outcome = authenticatedTimer;
             }
         } catch (Exception e) {
             // Log and continue filter chain without authentication for expired or invalid tokens
             logger.warn("JWT validation failed: " + e.getMessage());
         }
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 }
\ No newline at end of file
@@ -1,52 +1,80 @@
 package com.jobportal.backend.config;
 
+import com.jobportal.backend.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
+/**
+ * Issues and verifies short-lived access tokens. Besides the email subject they carry the user
+ * id and role, so requests are authenticated from the token alone; the token id (jti) allows a
+ * single token to be revoked through {@link TokenRevocationList}.
+ */
 @Service
 public class JwtService {
-    @Value("${jwt.secret:YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwIUAjJCVeJiooKS0rPQ==}")
-    private String secretKey;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
 
-    private static final long EXPIRATION_TIME = 86400000; // 24 hours
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Duration accessTokenTtl;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    public JwtService(@Value("${jwt.secret:YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwIUAjJCVeJiooKS0rPQ==}") String secretKey,
+                      @Value("${app.security.jwt.access-token-ttl:PT15M}") Duration accessTokenTtl) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.accessTokenTtl = accessTokenTtl;
     }
 
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+    /**
+     * Verified contents of an access token.
+     */
+    public record AccessToken(String id, Long userId, String email, User.Role role, Instant issuedAt,
+                              Instant expiresAt) {
     }
 
-    public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
+    public String generateAccessToken(User user) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(accessTokenTtl)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifies the signature and expiry and returns the claims.
+     *
+     * @throws JwtException when the token is invalid, expired or was issued before user id and
+     *                      role claims were added
+     */
+    public AccessToken parseAccessToken(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (claims.getId() == null || userId == null || role == null) {
+            throw new JwtException("Token lacks the id, user id or role claim");
+        }
+        return new AccessToken(claims.getId(), userId.longValue(), claims.getSubject(), User.Role.valueOf(role),
+                claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
     }
 
-    public boolean isTokenValid(String token) {
-        try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package com.jobportal.backend.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Metrics published on /actuator/prometheus. HTTP handlers (http.server.requests), repository
+ * methods (spring.data.repository.invocations) and HikariCP are instrumented by Spring Boot; this
+ * adds SLO buckets to the latency timers and gauges for the STOMP sessions and channels.
+ */
+@Configuration
+public class MetricsConfig {
+    public static final String JWT_FILTER_TIMER = "security.jwt.filter";
+    public static final String STOMP_INBOUND_TIMER = "stomp.inbound.messages";
+
+    private static final String HTTP_TIMER = "http.server.requests";
+    private static final Set<String> LATENCY_TIMERS = Set.of(HTTP_TIMER, "spring.data.repository.invocations",
+            JWT_FILTER_TIMER, STOMP_INBOUND_TIMER);
+
+    @Value("${app.metrics.slo-buckets-ms:5,10,25,50,100,250,500,1000,2500}")
+    private long[] sloBucketsMillis;
+
+    /**
+     * Gives every latency timer the same SLO buckets so alerts can be written as the share of
+     * requests above a threshold. HTTP timers also get the full percentile histogram for p99
+     * dashboards; repository timers are left at the SLO buckets to keep the series count down.
+     */
+    @Bean
+    public MeterFilter latencySloFilter() {
+        double[] slos = Arrays.stream(sloBucketsMillis)
+                .mapToDouble(millis -> Duration.ofMillis(millis).toNanos())
+                .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !LATENCY_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slos)
+                        .percentilesHistogram(HTTP_TIMER.equals(id.getName()))
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    // Destinations come from clients; cap them so arbitrary SUBSCRIBE targets cannot flood the registry
+    @Bean
+    public MeterFilter stompDestinationLimit() {
+        return MeterFilter.maximumAllowableTags(STOMP_INBOUND_TIMER, "destination", 100, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter statementBudgetEndpointLimit() {
+        return MeterFilter.maximumAllowableTags("db.statements.per.request", "endpoint", 200, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterBinder stompMetrics(WebSocketMessageBrokerStats brokerStats,
+                                    @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inbound,
+                                    @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outbound) {
+        return registry -> {
+            sessionGauge(registry, brokerStats, "websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+            sessionGauge(registry, brokerStats, "http-streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions);
+            sessionGauge(registry, brokerStats, "http-polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+
+            channelGauges(registry, "inbound", inbound);
+            channelGauges(registry, "outbound", outbound);
+        };
+    }
+
+    /**
+     * Fill level of the async logging queues. Events are dropped once the queue is more than
+     * 80% full, so a sustained high depth means log lines are being lost.
+     */
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+            Iterator<Appender<ILoggingEvent>> appenders = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME)
+                    .iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof AsyncAppenderBase<ILoggingEvent> async) {
+                    Gauge.builder("logging.async.queue.depth", async, AsyncAppenderBase::getNumberOfElementsInQueue)
+                            .tag("appender", async.getName())
+                            .register(registry);
+                    Gauge.builder("logging.async.queue.capacity", async, AsyncAppenderBase::getQueueSize)
+                            .tag("appender", async.getName())
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    private static void channelGauges(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("stomp.channel.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(registry);
+    }
+
+    private static void sessionGauge(MeterRegistry registry, WebSocketMessageBrokerStats brokerStats,
+                                     String transport, ToDoubleFunction<SubProtocolWebSocketHandler.Stats> value) {
+        Gauge.builder("stomp.sessions", brokerStats, stats -> stats.getWebSocketSessionStats() == null
+                        ? 0 : value.applyAsDouble(stats.getWebSocketSessionStats()))
+                .tag("transport", transport)
+                .register(registry);
+    }
+}
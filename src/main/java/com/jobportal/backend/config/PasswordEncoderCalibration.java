@@ -0,0 +1,99 @@
+package com.jobportal.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the password encoder with its work factor measured on the machine it runs on: the
+ * highest BCrypt strength, or the most Argon2id iterations, whose hash still fits the target
+ * latency. New hashes carry an {@code {id}} prefix; stored hashes without one are legacy BCrypt.
+ * Hashes below the calibrated cost report {@code upgradeEncoding} so they are replaced on login.
+ */
+@Slf4j
+final class PasswordEncoderCalibration {
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    // Never go below BCryptPasswordEncoder's default, which existing hashes were created with
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    // OWASP baseline for Argon2id: 19 MiB, 2 iterations, 1 lane
+    private static final int ARGON2_MEMORY_KIB = 19 * 1024;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-passw0rd";
+
+    private PasswordEncoderCalibration() {
+    }
+
+    static PasswordEncoder calibrate(String algorithm, Duration target) {
+        String id = algorithm.toLowerCase(Locale.ROOT);
+        PasswordEncoder bcrypt;
+        PasswordEncoder argon2;
+        switch (id) {
+            case BCRYPT -> {
+                bcrypt = calibrateBcrypt(target);
+                argon2 = argon2(MIN_ARGON2_ITERATIONS);
+            }
+            case ARGON2 -> {
+                bcrypt = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+                argon2 = calibrateArgon2(target);
+            }
+            default -> throw new IllegalArgumentException("Unsupported password algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(id, Map.of(BCRYPT, bcrypt, ARGON2, argon2));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private static PasswordEncoder calibrateBcrypt(Duration target) {
+        int strength = MIN_BCRYPT_STRENGTH;
+        long nanos = measure(new BCryptPasswordEncoder(strength));
+        // Each step doubles the work, so stop before a step that would overshoot
+        while (strength < MAX_BCRYPT_STRENGTH && nanos * 2 <= target.toNanos()) {
+            strength++;
+            nanos = measure(new BCryptPasswordEncoder(strength));
+        }
+        log.info("Calibrated BCrypt strength {}: {} ms per hash (target {} ms)", strength,
+                Duration.ofNanos(nanos).toMillis(), target.toMillis());
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    private static PasswordEncoder calibrateArgon2(Duration target) {
+        long baseline = measure(argon2(MIN_ARGON2_ITERATIONS));
+        // Argon2 cost is linear in the iteration count at fixed memory
+        long perIteration = Math.max(1, baseline / MIN_ARGON2_ITERATIONS);
+        int iterations = (int) Math.max(MIN_ARGON2_ITERATIONS,
+                Math.min(MAX_ARGON2_ITERATIONS, target.toNanos() / perIteration));
+        PasswordEncoder encoder = argon2(iterations);
+        log.info("Calibrated Argon2id to {} iterations at {} KiB: {} ms per hash (target {} ms)", iterations,
+                ARGON2_MEMORY_KIB, Duration.ofNanos(measure(encoder)).toMillis(), target.toMillis());
+        return encoder;
+    }
+
+    private static Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, 1, ARGON2_MEMORY_KIB, iterations);
+    }
+
+    // Fastest of a few runs after a warm-up, which is the least noisy estimate of the raw cost
+    private static long measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
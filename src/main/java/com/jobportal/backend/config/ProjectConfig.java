@@ -1,8 +1,8 @@
 package com.jobportal.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import io.swagger.v3.oas.models.Components;
@@ -11,11 +11,18 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
+import java.time.Duration;
+
 @Configuration
 public class ProjectConfig {
+    /**
+     * BCrypt or Argon2id with the work factor calibrated at startup so one hash takes about
+     * {@code app.security.password.target-hash-ms} on this machine.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${app.security.password.target-hash-ms:100}") long targetMillis) {
+        return PasswordEncoderCalibration.calibrate(algorithm, Duration.ofMillis(targetMillis));
     }
 
     @Bean
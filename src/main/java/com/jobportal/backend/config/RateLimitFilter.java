@@ -0,0 +1,109 @@
+package com.jobportal.backend.config;
+
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.service.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+/**
+ * Throttles HTTP requests per user, or per client IP for anonymous requests. It runs in the
+ * security chain right after {@link JwtAuthenticationFilter}, so the user is known but no
+ * controller, query or password hash has run yet. The first matching route decides the policy;
+ * every other request falls under the default policy.
+ * <p>
+ * The client IP is the remote address. Behind a reverse proxy, set
+ * {@code server.forward-headers-strategy=native} so it is taken from trusted forwarding headers.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String THROTTLED_BODY = "{\"message\":\"Too many requests. Please retry shortly.\"}";
+
+    private record Route(RequestMatcher matcher, RateLimiter.Policy policy) {
+    }
+
+    // Throttled per refresh token family in TokenService instead of per IP
+    private static final RequestMatcher REFRESH = antMatcher(HttpMethod.POST, "/auth/refresh");
+
+    private final RateLimiter rateLimiter;
+    private final List<Route> routes;
+    private final RateLimiter.Policy defaultPolicy;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           // Login and registration per IP: slows credential stuffing before it reaches the hashing pool
+                           @Value("${app.rate-limit.auth:10/PT1M}") String auth,
+                           // Read by the navbar on load and after its notification socket reconnects; updates are pushed
+                           @Value("${app.rate-limit.polling:20/PT1M}") String polling,
+                           @Value("${app.rate-limit.search:120/PT1M}") String search,
+                           @Value("${app.rate-limit.default:300/PT1M}") String defaults) {
+        this.rateLimiter = rateLimiter;
+        RateLimiter.Policy authPolicy = RateLimiter.Policy.parse("auth", auth);
+        this.routes = List.of(
+                new Route(antMatcher(HttpMethod.POST, "/auth/login"), authPolicy),
+                new Route(antMatcher(HttpMethod.POST, "/auth/register"), authPolicy),
+                new Route(antMatcher(HttpMethod.GET, "/notifications/unread-count"),
+                        RateLimiter.Policy.parse("polling", polling)),
+                new Route(antMatcher(HttpMethod.GET, "/jobs/**"), RateLimiter.Policy.parse("search", search)));
+        this.defaultPolicy = RateLimiter.Policy.parse("default", defaults);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || REFRESH.matches(request)
+                || request.getRequestURI().startsWith(request.getContextPath() + "/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimiter.Policy policy = policyFor(request);
+        long retryAfterSeconds = rateLimiter.tryAcquire(policy, subject(request), "http");
+        if (retryAfterSeconds > 0) {
+            log.debug("Throttled {} {} under policy {}", request.getMethod(), request.getRequestURI(), policy.name());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(THROTTLED_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimiter.Policy policyFor(HttpServletRequest request) {
+        for (Route route : routes) {
+            if (route.matcher().matches(request)) {
+                return route.policy();
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private static String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobportal.backend.config;
+
+import com.jobportal.backend.exception.StatementBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate executes within a unit of work (an HTTP request or an
+ * inbound STOMP message) and reports units that exceed the statement budget or run the same
+ * query shape repeatedly, which is how lazy-loading N+1 loops show up. Statements issued
+ * through JdbcTemplate bypass Hibernate and are not counted.
+ */
+@Slf4j
+@Component
+public class StatementBudget implements StatementInspector, HibernatePropertiesCustomizer {
+    private static final ThreadLocal<Map<String, Integer>> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int nPlusOneThreshold;
+    private final boolean strict;
+    private final Counter budgetExceeded;
+    private final Counter nPlusOne;
+
+    public StatementBudget(MeterRegistry meterRegistry,
+                           @Value("${app.sql.budget.enabled:true}") boolean enabled,
+                           @Value("${app.sql.budget.max-statements:20}") int maxStatements,
+                           @Value("${app.sql.budget.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                           @Value("${app.sql.budget.strict:false}") boolean strict) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.strict = strict;
+        this.budgetExceeded = Counter.builder("db.statements.budget.exceeded").register(meterRegistry);
+        this.nPlusOne = Counter.builder("db.statements.n_plus_one").register(meterRegistry);
+    }
+
+    /**
+     * Result of a unit of work: total statements and the query shapes that repeated at least the
+     * N+1 threshold, most frequent first.
+     */
+    public record Report(String unit, int statements, List<Map.Entry<String, Integer>> repeated) {
+        boolean overBudget(int maxStatements) {
+            return statements > maxStatements;
+        }
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> statements = CURRENT.get();
+        if (statements != null) {
+            statements.merge(fingerprint(sql), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread. Returns false, and leaves the outer unit in charge,
+     * when counting is disabled or a unit is already open.
+     */
+    public boolean begin() {
+        if (!enabled || CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new HashMap<>());
+        return true;
+    }
+
+    /**
+     * Stops counting, records the statement count for {@code unit} and logs offenders.
+     *
+     * @throws StatementBudgetExceededException in strict mode when the unit is an offender
+     */
+    public Report end(String unit) {
+        Map<String, Integer> statements = CURRENT.get();
+        CURRENT.remove();
+        if (statements == null) {
+            return new Report(unit, 0, List.of());
+        }
+
+        int total = 0;
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : statements.entrySet()) {
+            total += entry.getValue();
+            if (entry.getValue() >= nPlusOneThreshold) {
+                repeated.add(entry);
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Report report = new Report(unit, total, repeated);
+
+        DistributionSummary.builder("db.statements.per.request")
+                .tag("endpoint", unit)
+                .register(meterRegistry)
+                .record(total);
+
+        boolean overBudget = report.overBudget(maxStatements);
+        if (overBudget) {
+            budgetExceeded.increment();
+        }
+        if (!repeated.isEmpty()) {
+            nPlusOne.increment();
+        }
+        if (overBudget || !repeated.isEmpty()) {
+            String message = String.format("%s ran %d SQL statements (budget %d); repeated queries: %s",
+                    unit, total, maxStatements, repeated);
+            if (strict) {
+                throw new StatementBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+        return report;
+    }
+
+    /**
+     * Normalizes a statement to its shape: literals become ?, IN lists collapse to a single
+     * placeholder and whitespace is squeezed, so the same query with different arguments has
+     * one fingerprint.
+     */
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_FINGERPRINT_LENGTH
+                ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : normalized;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobportal.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a statement counting unit around the whole request, including the security filters and
+ * lazy loading during serialization, and reports it under the matched route pattern.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class StatementBudgetFilter extends OncePerRequestFilter {
+    private final StatementBudget statementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!statementBudget.begin()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String unit = request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+            if (completed) {
+                statementBudget.end(unit);
+            } else {
+                // Never replace the request's own exception with a budget violation
+                try {
+                    statementBudget.end(unit);
+                } catch (RuntimeException ignored) {
+                    // reported through the exception already propagating
+                }
+            }
+        }
+    }
+}
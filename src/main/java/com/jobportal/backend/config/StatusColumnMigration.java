@@ -0,0 +1,78 @@
+package com.jobportal.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lets existing databases store the pipeline statuses added after the original three. Hibernate
+ * created the status columns with a CHECK constraint (PostgreSQL) or as a native ENUM (MySQL)
+ * listing only APPLIED, SHORTLISTED and REJECTED, and schema update never widens those.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusColumnMigration {
+    private static final Map<String, List<String>> STATUS_COLUMNS = Map.of(
+            "applications", List.of("status"),
+            "application_status_history", List.of("old_status", "new_status"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Runs before the other startup tasks so backfills never hit the old constraints
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                dropCheckConstraints();
+            } else if ("MySQL".equalsIgnoreCase(product)) {
+                widenEnumColumns();
+            }
+        } catch (Exception e) {
+            log.warn("Could not migrate application status columns: {}", e.getMessage());
+        }
+    }
+
+    private void dropCheckConstraints() {
+        // Includes partitions of the history table, e.g. its attached _legacy table
+        List<Map<String, Object>> constraints = jdbcTemplate.queryForList(
+                "SELECT c.relname AS table_name, k.conname AS constraint_name FROM pg_constraint k "
+                        + "JOIN pg_class c ON c.oid = k.conrelid "
+                        + "WHERE k.contype = 'c' AND k.conislocal "
+                        + "AND (c.relname = 'applications' OR c.relname LIKE 'application\\_status\\_history%') "
+                        + "AND pg_get_constraintdef(k.oid) LIKE '%APPLIED%'");
+        for (Map<String, Object> constraint : constraints) {
+            String table = (String) constraint.get("table_name");
+            String name = (String) constraint.get("constraint_name");
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS \"" + name + "\"");
+            log.info("Dropped status check constraint {} on {}", name, table);
+        }
+    }
+
+    private void widenEnumColumns() {
+        STATUS_COLUMNS.forEach((table, columns) -> {
+            for (String column : columns) {
+                String nullability = jdbcTemplate.query("SELECT DATA_TYPE, IS_NULLABLE FROM information_schema.COLUMNS "
+                                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                        rs -> rs.next() && "enum".equalsIgnoreCase(rs.getString(1))
+                                ? ("NO".equals(rs.getString(2)) ? " NOT NULL" : " NULL") : null,
+                        table, column);
+                if (nullability != null) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY COLUMN " + column + " VARCHAR(32)" + nullability);
+                    log.info("Converted {}.{} from ENUM to VARCHAR", table, column);
+                }
+            }
+        });
+    }
+}
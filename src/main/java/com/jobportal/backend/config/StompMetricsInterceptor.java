@@ -0,0 +1,65 @@
+package com.jobportal.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Times the handling of every inbound STOMP frame on the channel executor thread, once per
+ * subscribed handler (annotated controllers, broker, user destinations), tagged with the command
+ * and the destination with numeric ids collapsed (e.g. /topic/chat/{id}).
+ */
+class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Timer.Sample> sample = new ThreadLocal<>();
+
+    StompMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!isHeartbeat(message)) {
+            sample.set(Timer.start(meterRegistry));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Timer.Sample started = sample.get();
+        if (started == null) {
+            return;
+        }
+        sample.remove();
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        String command = accessor != null && accessor.getCommand() != null ? accessor.getCommand().name() : "OTHER";
+        String destination = accessor != null ? normalize(accessor.getDestination()) : "none";
+        started.stop(Timer.builder(MetricsConfig.STOMP_INBOUND_TIMER)
+                .tag("command", command)
+                .tag("destination", destination)
+                .tag("handler", handler.getClass().getSimpleName())
+                .tag("outcome", ex == null ? "success" : "error")
+                .register(meterRegistry));
+    }
+
+    // Heartbeats only keep the session (and its presence) alive and would dominate the counts
+    static boolean isHeartbeat(Message<?> message) {
+        return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.HEARTBEAT;
+    }
+
+    static String normalize(String destination) {
+        return destination != null ? NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}") : "none";
+    }
+}
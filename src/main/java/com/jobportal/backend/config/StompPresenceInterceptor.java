@@ -0,0 +1,62 @@
+package com.jobportal.backend.config;
+
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.service.PresenceService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Feeds {@link PresenceService} from inbound frames of authenticated sessions: any frame,
+ * heartbeats included, keeps the session alive, a chat room subscription opens the room, and
+ * DISCONNECT (also sent by the server when the socket closes) ends the session. Registered after
+ * the authentication interceptor, so CONNECT already carries the user and rejected
+ * subscriptions never get here.
+ */
+class StompPresenceInterceptor implements ChannelInterceptor {
+    static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+
+    private final PresenceService presenceService;
+
+    StompPresenceInterceptor(PresenceService presenceService) {
+        this.presenceService = presenceService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+        if (accessor.getMessageType() == SimpMessageType.DISCONNECT) {
+            presenceService.disconnect(accessor.getSessionId());
+            return message;
+        }
+        if (!(accessor.getUser() instanceof Authentication auth) || !(auth.getPrincipal() instanceof User user)) {
+            return message;
+        }
+        Long roomId = StompCommand.SUBSCRIBE.equals(accessor.getCommand()) ? chatRoomId(accessor.getDestination()) : null;
+        if (roomId != null) {
+            presenceService.joinRoom(accessor.getSessionId(), user.getId(), roomId);
+        } else {
+            presenceService.touch(accessor.getSessionId(), user.getId());
+        }
+        return message;
+    }
+
+    /**
+     * The room id of {@code /topic/chat/{id}} and its sub-topics, or null for other destinations.
+     */
+    static Long chatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', CHAT_TOPIC_PREFIX.length());
+        return Long.parseLong(destination.substring(CHAT_TOPIC_PREFIX.length(), end < 0 ? destination.length() : end));
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobportal.backend.config;
+
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.service.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Throttles STOMP SEND frames per user, or per session before authentication. A throttled frame
+ * is dropped: STOMP has no per-frame status, and an ERROR frame would close the whole session.
+ * Registered first on the inbound channel, so a dropped frame never reaches the interceptors
+ * that set up security context, spans or statement budgets.
+ */
+@Slf4j
+class StompRateLimitInterceptor implements ChannelInterceptor {
+    private final RateLimiter rateLimiter;
+    private final RateLimiter.Policy policy;
+
+    StompRateLimitInterceptor(RateLimiter rateLimiter, RateLimiter.Policy policy) {
+        this.rateLimiter = rateLimiter;
+        this.policy = policy;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+        if (rateLimiter.tryAcquire(policy, subject(accessor), "stomp") > 0) {
+            log.debug("Dropped STOMP SEND to {} under policy {}", accessor.getDestination(), policy.name());
+            return null;
+        }
+        return message;
+    }
+
+    private static String subject(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof Authentication auth && auth.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "session:" + accessor.getSessionId();
+    }
+}
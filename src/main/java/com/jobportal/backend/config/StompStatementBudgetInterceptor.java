@@ -0,0 +1,41 @@
+package com.jobportal.backend.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * Counts the SQL statements run while handling an inbound STOMP frame, per handler invocation,
+ * and reports them as e.g. {@code STOMP SEND /app/chat}.
+ */
+class StompStatementBudgetInterceptor implements ExecutorChannelInterceptor {
+    private final StatementBudget statementBudget;
+    private final ThreadLocal<Boolean> owner = new ThreadLocal<>();
+
+    StompStatementBudgetInterceptor(StatementBudget statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!StompMetricsInterceptor.isHeartbeat(message) && statementBudget.begin()) {
+            owner.set(Boolean.TRUE);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (owner.get() == null) {
+            return;
+        }
+        owner.remove();
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        String command = accessor != null && accessor.getCommand() != null ? accessor.getCommand().name() : "OTHER";
+        String destination = accessor != null ? StompMetricsInterceptor.normalize(accessor.getDestination()) : "none";
+        statementBudget.end("STOMP " + command + " " + destination);
+    }
+}
@@ -0,0 +1,58 @@
+package com.jobportal.backend.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Traces messages published to the broker channel (e.g. through SimpMessagingTemplate) as
+ * producer spans and writes the trace context into the STOMP headers, which the simple broker
+ * copies onto the MESSAGE frames delivered to subscribers. The broker channel is synchronous,
+ * so the span covers fan-out to the subscribers' outbound queues.
+ */
+class StompTracePropagationInterceptor implements ChannelInterceptor {
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final ThreadLocal<Span> span = new ThreadLocal<>();
+
+    StompTracePropagationInterceptor(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (tracer.currentSpan() == null) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = StompMetricsInterceptor.normalize(accessor.getDestination());
+        Span producer = tracer.spanBuilder()
+                .kind(Span.Kind.PRODUCER)
+                .name("stomp publish " + destination)
+                .tag("messaging.system", "stomp")
+                .tag("messaging.destination.name", destination)
+                .start();
+        span.set(producer);
+        propagator.inject(producer.context(), accessor, SimpMessageHeaderAccessor::setNativeHeader);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        Span producer = span.get();
+        if (producer == null) {
+            return;
+        }
+        span.remove();
+        if (ex != null) {
+            producer.error(ex);
+        }
+        producer.end();
+    }
+}
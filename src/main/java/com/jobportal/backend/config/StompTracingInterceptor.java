@@ -0,0 +1,66 @@
+package com.jobportal.backend.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import java.util.Locale;
+
+/**
+ * Opens a span around the handling of each inbound STOMP frame, continuing the trace of the
+ * client when the frame carries trace context (e.g. a {@code traceparent} header), so work done
+ * by the controller, the database and the broker hangs off one trace.
+ */
+class StompTracingInterceptor implements ExecutorChannelInterceptor {
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final ThreadLocal<Tracer.SpanInScope> scope = new ThreadLocal<>();
+    private final ThreadLocal<Span> span = new ThreadLocal<>();
+
+    StompTracingInterceptor(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        String command = accessor.getCommand().name();
+        String destination = StompMetricsInterceptor.normalize(accessor.getDestination());
+        Span current = propagator.extract(accessor, StompHeaderAccessor::getFirstNativeHeader)
+                .kind(Span.Kind.SERVER)
+                .name("stomp " + command.toLowerCase(Locale.ROOT) + " " + destination)
+                .tag("messaging.system", "stomp")
+                .tag("messaging.operation", command)
+                .tag("messaging.destination.name", destination)
+                .tag("messaging.handler", handler.getClass().getSimpleName())
+                .start();
+        span.set(current);
+        scope.set(tracer.withSpan(current));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Span current = span.get();
+        if (current == null) {
+            return;
+        }
+        span.remove();
+        scope.get().close();
+        scope.remove();
+        if (ex != null) {
+            current.error(ex);
+        }
+        current.end();
+    }
+}
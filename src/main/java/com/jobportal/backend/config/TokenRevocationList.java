@@ -0,0 +1,174 @@
+package com.jobportal.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revoked access tokens, checked on every authenticated request. Revocations are kept in exact
+ * maps, fronted by a Bloom filter. Nearly all requests carry tokens that were never revoked,
+ * and for those the check is a few bit tests on a lock-free array with no map lookup. A
+ * positive from the filter is confirmed against the exact maps, so false positives cost one
+ * lookup but never reject a valid token.
+ * <p>
+ * Entries are only needed until the tokens they cover have expired, i.e. for one access-token
+ * lifetime. The periodic purge drops older entries and rebuilds the filter, because a Bloom
+ * filter cannot forget. Revocations live in memory, so with several instances each node only
+ * knows its own. The short access-token lifetime bounds that gap; refresh tokens are revoked in
+ * the database and are therefore consistent across instances.
+ */
+@Component
+public class TokenRevocationList {
+    private static final long USER_KEY_SALT = 0x5DEECE66DL;
+
+    // jti -> expiry of the revoked token
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    // user id -> tokens issued before this second are revoked
+    private final Map<Long, Instant> revokedUsers = new ConcurrentHashMap<>();
+    private final JwtService jwtService;
+    private final int initialCapacity;
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(JwtService jwtService, MeterRegistry meterRegistry,
+                               @Value("${app.security.revocation.expected-entries:10000}") int initialCapacity) {
+        this.jwtService = jwtService;
+        this.initialCapacity = initialCapacity;
+        this.filter = new BloomFilter(initialCapacity);
+        meterRegistry.gaugeMapSize("security.revoked.tokens", List.of(), revokedTokens);
+        meterRegistry.gaugeMapSize("security.revoked.users", List.of(), revokedUsers);
+    }
+
+    public boolean isRevoked(JwtService.AccessToken token) {
+        BloomFilter current = filter;
+        if (current.mightContain(userKey(token.userId()))) {
+            Instant revokedAt = revokedUsers.get(token.userId());
+            if (revokedAt != null && token.issuedAt().isBefore(revokedAt)) {
+                return true;
+            }
+        }
+        return current.mightContain(tokenKey(token.id())) && revokedTokens.containsKey(token.id());
+    }
+
+    public synchronized void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        add(tokenKey(tokenId));
+    }
+
+    /**
+     * Revokes every access token of the user issued so far. JWT issue times have second
+     * precision, so the cut-off is truncated to the second: a token issued earlier in the same
+     * second stays valid until it expires, while tokens issued right after the revocation
+     * (e.g. by a refresh) are accepted.
+     */
+    public synchronized void revokeUser(Long userId) {
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokedUsers.merge(userId, revokedAt, (a, b) -> a.isAfter(b) ? a : b);
+        add(userKey(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.purge-interval-ms:60000}")
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        Instant userCutoff = now.minus(jwtService.getAccessTokenTtl());
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        removed |= revokedUsers.values().removeIf(revokedAt -> revokedAt.isBefore(userCutoff));
+        if (removed) {
+            rebuild(Math.max(initialCapacity, size() * 2));
+        }
+    }
+
+    private void add(long key) {
+        if (filter.count >= filter.capacity) {
+            rebuild(filter.capacity * 2);
+        }
+        filter.add(key);
+    }
+
+    // Callers hold the lock, so no revocation can slip in between copying and publishing
+    private void rebuild(int capacity) {
+        BloomFilter rebuilt = new BloomFilter(capacity);
+        revokedTokens.keySet().forEach(id -> rebuilt.add(tokenKey(id)));
+        revokedUsers.keySet().forEach(id -> rebuilt.add(userKey(id)));
+        filter = rebuilt;
+    }
+
+    private int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    private static long tokenKey(String tokenId) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash = 31 * hash + tokenId.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    private static long userKey(Long userId) {
+        return mix(userId ^ USER_KEY_SALT);
+    }
+
+    // SplitMix64 finalizer: spreads both 32-bit halves used by the double hashing below
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Fixed-size Bloom filter sized for a 1% false positive rate at {@code capacity} entries,
+     * using k indexes derived from one 64-bit hash (Kirsch-Mitzenmacher double hashing).
+     */
+    static final class BloomFilter {
+        private static final double FALSE_POSITIVE_RATE = 0.01;
+
+        final int capacity;
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private int count;
+
+        BloomFilter(int capacity) {
+            this.capacity = Math.max(capacity, 64);
+            long m = (long) Math.ceil(-this.capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+        }
+
+        void add(long key) {
+            int h1 = (int) key;
+            int h2 = (int) (key >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+            count++;
+        }
+
+        boolean mightContain(long key) {
+            int h1 = (int) key;
+            int h2 = (int) (key >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobportal.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Span export. HTTP requests, JDBC statements and the resume file store are traced through
+ * Micrometer Tracing with the OpenTelemetry bridge; STOMP frames are traced by the interceptors
+ * registered in {@link WebSocketConfig}. Spans go to an OTLP collector when
+ * {@code management.otlp.tracing.endpoint} is set (Spring Boot auto-configuration) and/or to a
+ * JSON lines file when {@code app.tracing.file} is set, for offline analysis.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty("app.tracing.file")
+    public SpanExporter fileSpanExporter(@Value("${app.tracing.file}") Path file, ObjectMapper objectMapper)
+            throws IOException {
+        return new JsonFileSpanExporter(file, objectMapper);
+    }
+}
@@ -1,7 +1,14 @@
 package com.jobportal.backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,8 +21,38 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.upload.dir:uploads/resumes}")
     private String uploadDir;
 
+    @Value("${app.compression.min-response-size:2KB}")
+    private DataSize compressionMinResponseSize;
+
+    // Replaces Boot's open-in-view registration: an open EntityManager holds its connection until the
+    // request ends, and POST /applications waits for the intake batcher, which needs connections itself
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor()).excludePathPatterns("/applications");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Resume access is now handled by ResumeController for better control
     }
+
+    // Gzip JSON/CBOR responses above the threshold; smaller payloads are not worth the CPU
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer() {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMinResponseSize(compressionMinResponseSize);
+            compression.setMimeTypes(new String[] {
+                    "application/json", "application/cbor", "text/html", "text/css",
+                    "text/plain", "application/javascript"
+            });
+            factory.setCompression(compression);
+        };
+    }
 }
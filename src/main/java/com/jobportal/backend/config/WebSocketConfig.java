@@ -2,9 +2,19 @@ package com.jobportal.backend.config;
 
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.service.ChatService;
+import com.jobportal.backend.service.PresenceService;
+import com.jobportal.backend.service.RateLimiter;
 import com.jobportal.backend.service.UserService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -14,6 +24,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,13 +42,38 @@ import java.util.List;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
     private final UserService userService;
     private final ChatService chatService;
+    private final MeterRegistry meterRegistry;
+    private final StatementBudget statementBudget;
+    private final RateLimiter rateLimiter;
+    private final PresenceService presenceService;
+    private final ObjectProvider<Tracer> tracer;
+    private final ObjectProvider<Propagator> propagator;
+
+    @Value("${app.rate-limit.stomp-send:120/PT1M}")
+    private String stompSendLimit;
+
+    // Client heartbeats keep presence alive; without a server value clients send none
+    @Value("${app.websocket.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         config.setApplicationDestinationPrefixes("/app");
+        config.configureBrokerChannel().interceptors(
+                new StompTracePropagationInterceptor(tracer(), propagator()));
     }
 
     @Override
@@ -51,7 +87,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(new ChannelInterceptor() {
+        registration.interceptors(
+                new StompRateLimitInterceptor(rateLimiter, RateLimiter.Policy.parse("stomp-send", stompSendLimit)),
+                new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
                 StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -61,9 +99,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     String authHeader = accessor.getFirstNativeHeader("Authorization");
                     if (authHeader != null && authHeader.startsWith("Bearer ")) {
                         String token = authHeader.substring(7);
-                        if (jwtService.isTokenValid(token)) {
-                            String email = jwtService.extractEmail(token);
-                            User user = userService.findByEmail(email);
+                        JwtService.AccessToken accessToken = verify(token);
+                        if (accessToken != null) {
+                            // The session outlives the token, so it holds the loaded user
+                            User user = userService.findByEmail(accessToken.email());
                             List<SimpleGrantedAuthority> authorities = Collections.singletonList(
                                     new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
                             );
@@ -86,8 +125,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     User user = (User) auth.getPrincipal();
                     SecurityContextHolder.getContext().setAuthentication(auth);
 
-                    if (destination.startsWith("/topic/chat/")) {
-                        Long roomId = Long.parseLong(destination.substring("/topic/chat/".length()));
+                    Long roomId = StompPresenceInterceptor.chatRoomId(destination);
+                    if (roomId != null) {
                         if (!chatService.isUserInRoom(roomId, user.getId())) {
                             throw new RuntimeException("Unauthorized: You are not a member of this chat room");
                         }
@@ -114,6 +153,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 // Clear context after message is processed to avoid thread pollution
                 SecurityContextHolder.clearContext();
             }
-        });
+        }, new StompPresenceInterceptor(presenceService),
+                new StompTracingInterceptor(tracer(), propagator()), new StompMetricsInterceptor(meterRegistry),
+                new StompStatementBudgetInterceptor(statementBudget));
+    }
+
+    // An invalid, expired or revoked token leaves the session unauthenticated, as before
+    private JwtService.AccessToken verify(String token) {
+        try {
+            JwtService.AccessToken accessToken = jwtService.parseAccessToken(token);
+            return revocationList.isRevoked(accessToken) ? null : accessToken;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected STOMP token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Tracing can be switched off with management.tracing.enabled=false
+    private Tracer tracer() {
+        return tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    private Propagator propagator() {
+        return propagator.getIfAvailable(() -> Propagator.NOOP);
     }
 }
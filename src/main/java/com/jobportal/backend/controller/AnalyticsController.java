@@ -0,0 +1,58 @@
+package com.jobportal.backend.controller;
+
+import com.jobportal.backend.dto.ApplicationRollupResponse;
+import com.jobportal.backend.dto.RejectionRateResponse;
+import com.jobportal.backend.dto.TimeToShortlistResponse;
+import com.jobportal.backend.model.ApplicationRollup.Granularity;
+import com.jobportal.backend.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/jobs/{jobId}/activity")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<List<ApplicationRollupResponse>> getJobActivity(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "DAILY") Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from
+                : granularity == Granularity.HOURLY ? end.minusDays(1) : end.minusDays(DEFAULT_RANGE_DAYS);
+        return ResponseEntity.ok(analyticsService.getJobActivity(jobId, granularity, start, end));
+    }
+
+    @GetMapping("/time-to-shortlist")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<TimeToShortlistResponse> getTimeToShortlist(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        return ResponseEntity.ok(analyticsService.getTimeToShortlist(jobId, start, end));
+    }
+
+    @GetMapping("/recruiters/rejection-rates")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RejectionRateResponse>> getRejectionRates(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        return ResponseEntity.ok(analyticsService.getRejectionRates(start, end));
+    }
+}
@@ -2,10 +2,14 @@ package com.jobportal.backend.controller;
 
 import com.jobportal.backend.dto.ApplicationRequest;
 import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.BulkStatusUpdateRequest;
+import com.jobportal.backend.dto.BulkStatusUpdateResponse;
 import com.jobportal.backend.dto.CandidateProfileResponse;
 import com.jobportal.backend.dto.StatusHistoryResponse;
 import com.jobportal.backend.model.Application;
 import com.jobportal.backend.service.ApplicationService;
+import com.jobportal.backend.service.IdempotencyCache;
+import com.jobportal.backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,17 +17,28 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/applications")
 @RequiredArgsConstructor
 public class ApplicationController {
     private final ApplicationService applicationService;
+    private final IdempotencyCache idempotencyCache;
+    private final SecurityUtils securityUtils;
 
     @PostMapping
     @PreAuthorize("hasRole('CANDIDATE')") // Only CANDIDATE can apply
-    public ResponseEntity<ApplicationResponse> apply(@Valid @RequestBody ApplicationRequest request) {
-        return ResponseEntity.ok(applicationService.applyToJob(request));
+    public CompletableFuture<ResponseEntity<ApplicationResponse>> apply(
+            @Valid @RequestBody ApplicationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return applicationService.applyToJob(request).thenApply(ResponseEntity::ok);
+        }
+        // Keys are scoped per user so two candidates can never collide on the same value
+        String key = securityUtils.getCurrentUserEmail() + ":" + idempotencyKey;
+        return idempotencyCache.executeAsync(key, "apply:" + request.getJobId(),
+                () -> applicationService.applyToJob(request)).thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/user/{userId}")
@@ -41,8 +56,15 @@ public class ApplicationController {
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<ApplicationResponse> updateStatus(
             @PathVariable Long id,
-            @RequestParam Application.ApplicationStatus status) {
-        return ResponseEntity.ok(applicationService.updateApplicationStatus(id, status));
+            @RequestParam Application.ApplicationStatus status,
+            @RequestParam(required = false) Application.ApplicationStatus expectedStatus) {
+        return ResponseEntity.ok(applicationService.updateApplicationStatus(id, status, expectedStatus));
+    }
+
+    @PostMapping("/bulk-status")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        return ResponseEntity.ok(applicationService.bulkUpdateStatus(request));
     }
 
     @GetMapping("/{id}/history")
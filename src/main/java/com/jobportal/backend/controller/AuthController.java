@@ -1,29 +1,50 @@
 package com.jobportal.backend.controller;
 
+import com.jobportal.backend.config.JwtService;
+import com.jobportal.backend.dto.AuthResponse;
 import com.jobportal.backend.dto.LoginRequest;
+import com.jobportal.backend.dto.RefreshTokenRequest;
 import com.jobportal.backend.dto.RegisterRequest;
 import com.jobportal.backend.service.AuthService;
+import com.jobportal.backend.service.TokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final TokenService tokenService;
 
     @PostMapping("/register")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         return ResponseEntity.ok(authService.register(request));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody LoginRequest request) {
+        return authService.login(request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(tokenService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request, Authentication authentication) {
+        JwtService.AccessToken accessToken = authentication != null
+                && authentication.getCredentials() instanceof JwtService.AccessToken token ? token : null;
+        tokenService.logout(request.getRefreshToken(), accessToken);
+        return ResponseEntity.noContent().build();
     }
 }
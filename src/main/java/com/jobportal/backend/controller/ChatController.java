@@ -3,12 +3,16 @@ package com.jobportal.backend.controller;
 import com.jobportal.backend.dto.ChatMessageDTO;
 import com.jobportal.backend.dto.ChatRoomDTO;
 import com.jobportal.backend.dto.InitiateChatRequest;
+import com.jobportal.backend.dto.TypingEvent;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.service.ChatService;
+import com.jobportal.backend.service.PresenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -27,6 +31,7 @@ public class ChatController {
 
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceService presenceService;
 
     @MessageExceptionHandler
     public void handleException(Exception exception) {
@@ -64,4 +69,18 @@ public class ChatController {
         ChatMessageDTO savedMessage = chatService.saveMessage(chatMessageDTO, user);
         messagingTemplate.convertAndSend("/topic/chat/" + savedMessage.getChatRoomId(), savedMessage);
     }
+
+    @MessageMapping("/chat/{roomId}/typing")
+    public void processTyping(@DestinationVariable Long roomId, @Payload TypingEvent typingEvent,
+                              SimpMessageHeaderAccessor headers, Authentication authentication) {
+        // Authorized by the session's earlier room subscription, so no lookup is needed
+        if (presenceService.acceptTyping(headers.getSessionId(), roomId, typingEvent.isTyping())) {
+            User user = (User) authentication.getPrincipal();
+            messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/typing", TypingEvent.builder()
+                    .chatRoomId(roomId)
+                    .userId(user.getId())
+                    .typing(typingEvent.isTyping())
+                    .build());
+        }
+    }
 }
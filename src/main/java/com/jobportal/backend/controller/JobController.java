@@ -2,17 +2,24 @@ package com.jobportal.backend.controller;
 
 import com.jobportal.backend.dto.JobRequest;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobScrollResponse;
+import com.jobportal.backend.dto.JobStatsResponse;
+import com.jobportal.backend.dto.JobSummaryResponse;
 import com.jobportal.backend.model.Job;
+import com.jobportal.backend.service.JobResponseCache;
 import com.jobportal.backend.service.JobService;
+import com.jobportal.backend.service.JobStatsService;
 import com.jobportal.backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/jobs")
@@ -20,6 +27,8 @@ import java.util.List;
 public class JobController {
     private final JobService jobService;
     private final SecurityUtils securityUtils;
+    private final JobResponseCache jobResponseCache;
+    private final JobStatsService jobStatsService;
 
     @PostMapping
     @PreAuthorize("hasRole('RECRUITER')") // Only RECRUITER can access this
@@ -33,28 +42,55 @@ public class JobController {
     // }
 
     @GetMapping
-    public ResponseEntity<Page<JobResponse>> getAllJobs(
+    public ResponseEntity<Page<JobSummaryResponse>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String key = JobResponseCache.listKey(page, size, sortBy, search, jobType, experienceLevel);
+        return jobResponseCache.respond(key, JobResponseCache.representation(accept),
+                () -> jobService.getAllJobs(page, size, sortBy, search, jobType, experienceLevel));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<JobScrollResponse> scrollJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String jobType,
             @RequestParam(required = false) String experienceLevel) {
-        return ResponseEntity.ok(jobService.getAllJobs(page, size, sortBy, search, jobType, experienceLevel));
+        return ResponseEntity.ok(jobService.scrollJobs(cursor, size, search, jobType, experienceLevel));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return jobResponseCache.respond(JobResponseCache.jobKey(id), JobResponseCache.representation(accept),
+                () -> jobService.getJobById(id));
     }
 
     @GetMapping("/my-jobs")
     @PreAuthorize("hasRole('RECRUITER')")
-    public ResponseEntity<List<JobResponse>> getMyJobs() {
+    public ResponseEntity<List<JobSummaryResponse>> getMyJobs() {
         String email = securityUtils.getCurrentUserEmail();
         return ResponseEntity.ok(jobService.getJobsByRecruiter(email));
     }
 
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResponseEntity<JobStatsResponse> getJobStats(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.getJobStats(id, securityUtils.getCurrentUserEmail()));
+    }
+
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildJobStats() {
+        return ResponseEntity.ok(Map.of("jobs", jobStatsService.rebuild()));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<Void> deleteJob(@PathVariable Long id) {
@@ -1,13 +1,11 @@
 package com.jobportal.backend.controller;
 
-import com.jobportal.backend.dto.NotificationResponse;
+import com.jobportal.backend.dto.NotificationFeedResponse;
 import com.jobportal.backend.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/notifications")
 @RequiredArgsConstructor
@@ -15,8 +13,10 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications() {
-        return ResponseEntity.ok(notificationService.getMyNotifications());
+    public ResponseEntity<NotificationFeedResponse> getMyNotifications(
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getMyNotifications(beforeId, size));
     }
 
     @PatchMapping("/{id}/read")
@@ -25,6 +25,11 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/read-all")
+    public ResponseEntity<Integer> markAllAsRead(@RequestParam(required = false) Long upToId) {
+        return ResponseEntity.ok(notificationService.markAllAsRead(upToId));
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Long> getUnreadCount() {
         return ResponseEntity.ok(notificationService.getUnreadCount());
@@ -0,0 +1,33 @@
+package com.jobportal.backend.controller;
+
+import com.jobportal.backend.dto.PipelineRequest;
+import com.jobportal.backend.dto.PipelineResponse;
+import com.jobportal.backend.service.ApplicationPipelineService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/pipeline")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('RECRUITER')")
+public class PipelineController {
+    private final ApplicationPipelineService pipelineService;
+
+    @GetMapping
+    public ResponseEntity<PipelineResponse> getPipeline() {
+        return ResponseEntity.ok(pipelineService.getMyPipeline());
+    }
+
+    @PutMapping
+    public ResponseEntity<PipelineResponse> updatePipeline(@Valid @RequestBody PipelineRequest request) {
+        return ResponseEntity.ok(pipelineService.updateMyPipeline(request));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<PipelineResponse> resetPipeline() {
+        return ResponseEntity.ok(pipelineService.resetMyPipeline());
+    }
+}
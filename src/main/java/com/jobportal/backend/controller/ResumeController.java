@@ -42,7 +42,7 @@ public class ResumeController {
         try {
             // Decode filename in case it's URL encoded
             String decodedFilename = URLDecoder.decode(filename, StandardCharsets.UTF_8.toString());
-            log.info("Request to view resume: {} (decoded: {})", filename, decodedFilename);
+            log.debug("Request to view resume: {} (decoded: {})", filename, decodedFilename);
             
             String email = securityUtils.getCurrentUserEmail();
             User currentUser = userRepository.findByEmail(email)
@@ -60,13 +60,15 @@ public class ResumeController {
             boolean isRecruiterOfApplicant = false;
             if (currentUser.getRole() == User.Role.RECRUITER) {
                 isRecruiterOfApplicant = applicationRepository.existsByUserIdAndJobRecruiterId(profile.getUser().getId(), currentUser.getId());
-                log.info("Recruiter permission check: candidateId={}, recruiterId={}, hasApplication={}", 
+                log.debug("Recruiter permission check: candidateId={}, recruiterId={}, hasApplication={}",
                         profile.getUser().getId(), currentUser.getId(), isRecruiterOfApplicant);
             }
             boolean isAdmin = currentUser.getRole() == User.Role.ADMIN;
 
-            log.info("Access Check: user={}, role={}, isOwner={}, isRecruiterOfApplicant={}, isAdmin={}", 
-                    email, currentUser.getRole(), isOwner, isRecruiterOfApplicant, isAdmin);
+            if (log.isDebugEnabled()) {
+                log.debug("Access Check: user={}, role={}, isOwner={}, isRecruiterOfApplicant={}, isAdmin={}",
+                        email, currentUser.getRole(), isOwner, isRecruiterOfApplicant, isAdmin);
+            }
 
             if (!isOwner && !isRecruiterOfApplicant && !isAdmin) {
                 log.warn("Access DENIED for resume: {} by user: {}. No application link found for candidate {} and recruiter {}", 
@@ -79,7 +81,9 @@ public class ResumeController {
                 file = resumeService.getResumePath(filename);
             }
             
-            log.info("Resolved resume path: {}", file.toAbsolutePath());
+            if (log.isDebugEnabled()) {
+                log.debug("Resolved resume path: {}", file.toAbsolutePath());
+            }
             
             if (!Files.exists(file)) {
                 log.error("File does not exist on disk: {}", file.toAbsolutePath());
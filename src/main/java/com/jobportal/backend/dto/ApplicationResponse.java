@@ -12,7 +12,7 @@ public class ApplicationResponse {
     private Long userId;
     private String userEmail;
     private String resumeUrl; // Added to make resume visible in application list
-    private JobResponse job; // Nested DTO
+    private JobSummaryResponse job; // Nested DTO
     private ApplicationStatus status;
     private LocalDateTime appliedAt;
 }
\ No newline at end of file
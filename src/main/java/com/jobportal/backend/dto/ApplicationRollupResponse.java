@@ -0,0 +1,14 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ApplicationRollupResponse {
+    private LocalDateTime bucketStart;
+    private long appliedCount;
+    private long shortlistedCount;
+    private long rejectedCount;
+}
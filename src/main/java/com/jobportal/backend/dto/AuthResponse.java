@@ -0,0 +1,15 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AuthResponse {
+    private String accessToken;
+    private String refreshToken;
+    @Builder.Default
+    private String tokenType = "Bearer";
+    // Lifetime of the access token in seconds
+    private long expiresIn;
+}
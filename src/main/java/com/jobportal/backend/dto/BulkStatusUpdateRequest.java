@@ -0,0 +1,19 @@
+package com.jobportal.backend.dto;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateRequest {
+    @NotEmpty(message = "Application ids are required")
+    @Size(max = 5000, message = "At most 5000 applications can be moved at once")
+    private List<Long> applicationIds;
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+}
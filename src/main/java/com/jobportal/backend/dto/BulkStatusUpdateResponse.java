@@ -0,0 +1,18 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkStatusUpdateResponse {
+    private int updated;
+    // Transition not allowed by the recruiter's pipeline
+    private List<Long> invalid;
+    // Status changed concurrently between validation and update
+    private List<Long> conflicted;
+    // Unknown ids or applications to other recruiters' jobs
+    private List<Long> notFound;
+}
@@ -18,4 +18,8 @@ public class ChatRoomDTO {
     private String lastMessage;
     private java.time.LocalDateTime lastMessageTimestamp;
     private Long unreadCount;
+    // Whether the other participant has a live chat connection
+    private boolean counterpartOnline;
+    // The other participant has read every message up to this id, 0 when they have read none
+    private Long counterpartLastReadMessageId;
 }
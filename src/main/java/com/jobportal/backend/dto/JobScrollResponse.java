@@ -0,0 +1,14 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class JobScrollResponse {
+    private List<JobSummaryResponse> content;
+    private String nextCursor; // Opaque keyset cursor, null on the last slice
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class JobStatsResponse {
+    private Long jobId;
+    private long appliedCount;
+    private long shortlistedCount;
+    private long rejectedCount;
+    private long inProgressCount;
+    private long hiredCount;
+    private long totalApplicants;
+    private LocalDateTime lastAppliedAt;
+}
@@ -0,0 +1,26 @@
+package com.jobportal.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * Lean job projection for list endpoints; the full description is only served by GET /jobs/{id}.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobSummaryResponse {
+    private Long id;
+    private String title;
+    private String descriptionExcerpt;
+    private String companyName;
+    private String location;
+    private String salaryRange;
+    private String jobType;
+    private String experienceLevel;
+    private LocalDateTime createdAt;
+    // Applicant counters, only populated for the recruiter's own jobs (GET /jobs/my-jobs)
+    private JobStatsResponse stats;
+}
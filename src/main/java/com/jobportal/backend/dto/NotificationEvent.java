@@ -0,0 +1,22 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pushed to /topic/user/{id}/notifications. The type field distinguishes these events from the
+ * ChatRoomDTO payloads published on the same topic when a recruiter opens a chat.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationEvent {
+    public enum Type { NOTIFICATION, UNREAD_COUNT }
+
+    private Type type;
+    private Integer unreadCount; // null when the server has no cached count for the user yet
+    private NotificationResponse notification;
+}
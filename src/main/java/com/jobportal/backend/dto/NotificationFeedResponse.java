@@ -0,0 +1,14 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class NotificationFeedResponse {
+    private List<NotificationResponse> content;
+    private Long nextCursor; // Pass back as beforeId for the next page, null on the last page
+    private boolean hasNext;
+}
@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 public class NotificationResponse {
     private Long id;
     private String message;
+    private Long jobId;
+    private Integer aggregateCount;
     private boolean isRead;
     private LocalDateTime createdAt;
 }
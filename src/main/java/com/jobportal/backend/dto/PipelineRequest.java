@@ -0,0 +1,15 @@
+package com.jobportal.backend.dto;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class PipelineRequest {
+    // Allowed target statuses per source status
+    @NotEmpty(message = "Pipeline must define at least one transition")
+    private Map<ApplicationStatus, List<ApplicationStatus>> transitions;
+}
@@ -0,0 +1,14 @@
+package com.jobportal.backend.dto;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class PipelineResponse {
+    private Map<ApplicationStatus, List<ApplicationStatus>> transitions;
+}
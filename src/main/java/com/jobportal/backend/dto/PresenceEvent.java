@@ -0,0 +1,15 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceEvent {
+    private Long userId;
+    private boolean online;
+}
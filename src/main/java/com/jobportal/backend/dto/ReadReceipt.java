@@ -0,0 +1,17 @@
+package com.jobportal.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadReceipt {
+    private Long chatRoomId;
+    private Long userId;
+    // Every message up to and including this id has been read by the user
+    private Long lastReadMessageId;
+}
@@ -0,0 +1,15 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RejectionRateResponse {
+    private Long recruiterId;
+    private long applicationsReceived;
+    private long shortlistedCount;
+    private long rejectedCount;
+    // Share of decisions (shortlisted + rejected) that were rejections
+    private double rejectionRate;
+}
@@ -0,0 +1,14 @@
+package com.jobportal.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TimeToShortlistResponse {
+    private long sampleCount;
+    private long p50Minutes;
+    private long p75Minutes;
+    private long p90Minutes;
+    private long p99Minutes;
+}
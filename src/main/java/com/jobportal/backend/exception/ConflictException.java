@@ -0,0 +1,7 @@
+package com.jobportal.backend.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobportal.backend.exception;
+
+/**
+ * Raised in strict mode (app.sql.budget.strict=true) when a request or STOMP message exceeds its
+ * SQL statement budget or repeats a query like an N+1 loop. Meant to fail integration tests.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Highest source row id an incremental analytics job has already folded into its rollups.
+ */
+@Entity
+@Table(name = "analytics_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsWatermark {
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    private LocalDateTime updatedAt;
+}
@@ -2,10 +2,13 @@ package com.jobportal.backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_applications_user_job", columnNames = {"user_id", "job_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +36,12 @@ public class Application extends BaseEntity{
 
     private LocalDateTime appliedAt;
 
+    // Existing rows start at 0 when the column is added
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         appliedAt = LocalDateTime.now();
@@ -41,7 +50,8 @@ public class Application extends BaseEntity{
         }
     }
 
+    // Which transitions are allowed is defined per recruiter, see ApplicationPipeline
     public enum ApplicationStatus {
-        APPLIED, SHORTLISTED, REJECTED
+        APPLIED, SHORTLISTED, REJECTED, SCREENING, INTERVIEW, OFFER, HIRED
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated application activity for one job in one hour or day bucket, derived from
+ * ApplicationStatusHistory by AnalyticsRollupService. Reports read these rows only.
+ */
+@Entity
+@Table(name = "analytics_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_analytics_rollups_bucket_job", columnNames = {"granularity", "bucket_start", "job_id"})
+}, indexes = {
+    @Index(name = "idx_analytics_rollups_recruiter", columnList = "granularity, recruiter_id, bucket_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Long recruiterId;
+
+    @Builder.Default
+    private long appliedCount = 0;
+
+    @Builder.Default
+    private long shortlistedCount = 0;
+
+    @Builder.Default
+    private long rejectedCount = 0;
+
+    // Compressed HdrHistogram of minutes from applying to being shortlisted; null while empty
+    @Column(length = 8192)
+    private byte[] timeToShortlist;
+
+    public enum Granularity {
+        HOURLY, DAILY
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * A monthly partition of an append-only table that was exported to a compressed file and
+ * dropped. {@code rehydratedAt} is set while the partition is attached again on demand.
+ */
+@Entity
+@Table(name = "archived_partitions", indexes = {
+    @Index(name = "idx_archived_partitions_table_end", columnList = "table_name, range_end")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedPartition {
+    @Id
+    private String partitionName;
+
+    @Column(nullable = false)
+    private String tableName;
+
+    // Null for the legacy partition that starts at MINVALUE
+    private LocalDateTime rangeStart;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(nullable = false, length = 1024)
+    private String filePath;
+
+    private long rowCount;
+
+    private LocalDateTime archivedAt;
+
+    private LocalDateTime rehydratedAt;
+}
@@ -26,6 +26,8 @@ public class ChatMessage extends BaseEntity {
     @Column(nullable = false, length = 2000)
     private String content;
 
+    // No longer maintained: read state is the per-participant watermark on ChatRoom. The column
+    // stays so existing rows and archived partitions keep their shape
     @Builder.Default
     private boolean isRead = false;
 }
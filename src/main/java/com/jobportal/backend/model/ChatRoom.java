@@ -24,4 +24,11 @@ public class ChatRoom extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "candidate_id", nullable = false)
     private User candidate;
+
+    // Read state per participant: the highest message id they have seen, null before their first read
+    @Column(name = "recruiter_last_read_message_id")
+    private Long recruiterLastReadMessageId;
+
+    @Column(name = "candidate_last_read_message_id")
+    private Long candidateLastReadMessageId;
 }
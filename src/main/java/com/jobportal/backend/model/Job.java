@@ -8,7 +8,12 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    // Backs the default createdAt sort and keyset paging on (createdAt, id)
+    @Index(name = "idx_jobs_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_jobs_title", columnList = "title"),
+    @Index(name = "idx_jobs_company_name", columnList = "company_name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
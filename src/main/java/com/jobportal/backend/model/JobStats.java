@@ -0,0 +1,71 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Applicant counters per job, kept up to date in the same transaction that creates or moves an
+ * application so recruiter dashboards never have to count applications. Can be recomputed from
+ * the applications table with JobStatsService#rebuild.
+ */
+@Entity
+@Table(name = "job_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobStats implements Persistable<Long> {
+    @Id
+    private Long jobId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long appliedCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long shortlistedCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long rejectedCount = 0;
+
+    // Applications in screening, interview or offer stages
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long inProgressCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long hiredCount = 0;
+
+    private LocalDateTime lastAppliedAt;
+
+    // The id is assigned (the job id), so tell Spring Data when to persist instead of merge
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return jobId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -5,7 +5,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    // Keyset feed and per-user unread counts
+    @Index(name = "idx_notifications_user_id_id", columnList = "user_id, id"),
+    // Retention sweep over old read notifications
+    @Index(name = "idx_notifications_read_created", columnList = "is_read, created_at"),
+    // Lookup of the open aggregate row when coalescing application notifications
+    @Index(name = "idx_notifications_user_type_job", columnList = "user_id, type, job_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +30,18 @@ public class Notification {
     @Column(nullable = false)
     private String message;
 
+    // Null on rows created before notifications were typed; treated as GENERAL
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    // Job the notification refers to, used to coalesce application notifications per posting
+    private Long jobId;
+
+    // Number of events merged into this row (e.g. "27 new applications")
+    private Integer aggregateCount;
+
+    private LocalDateTime updatedAt;
+
     @Builder.Default
     private boolean isRead = false;
 
@@ -31,5 +50,15 @@ public class Notification {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        if (type == null) {
+            type = NotificationType.GENERAL;
+        }
+        if (aggregateCount == null) {
+            aggregateCount = 1;
+        }
+    }
+
+    public enum NotificationType {
+        GENERAL, APPLICATION_RECEIVED
     }
 }
@@ -0,0 +1,22 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Stored hiring pipeline of a recruiter, in the form produced by ApplicationPipeline#encode.
+ */
+@Entity
+@Table(name = "recruiter_pipelines")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecruiterPipeline extends BaseEntity {
+    @Id
+    private Long recruiterId;
+
+    @Column(nullable = false, length = 2000)
+    private String transitions;
+}
@@ -0,0 +1,44 @@
+package com.jobportal.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single-use refresh token. Only the SHA-256 hash of the token is stored. Every refresh
+ * revokes the presented token and issues its successor in the same family, so presenting an
+ * already rotated token reveals that it was copied and revokes the whole family.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+    @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+    // Cleanup of expired tokens
+    @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime revokedAt;
+}
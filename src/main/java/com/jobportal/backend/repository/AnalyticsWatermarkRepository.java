@@ -0,0 +1,17 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.AnalyticsWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface AnalyticsWatermarkRepository extends JpaRepository<AnalyticsWatermark, String> {
+    // Compare-and-set, so two instances can never fold the same rows twice
+    @Modifying
+    @Query("UPDATE AnalyticsWatermark w SET w.lastId = :newId, w.updatedAt = :now WHERE w.name = :name AND w.lastId = :expectedId")
+    int advance(@Param("name") String name, @Param("expectedId") long expectedId, @Param("newId") long newId,
+                @Param("now") LocalDateTime now);
+}
@@ -1,16 +1,58 @@
 package com.jobportal.backend.repository;
 
 import com.jobportal.backend.model.Application;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
     List<Application> findByUserId(Long userId);
     List<Application> findByJobRecruiterId(Long recruiterId);
-    boolean existsByUserIdAndJobId(Long userId, Long jobId);
     
     @Query("SELECT COUNT(a) > 0 FROM Application a JOIN a.job j JOIN j.recruiter r WHERE a.user.id = :userId AND r.id = :recruiterId")
     boolean existsByUserIdAndJobRecruiterId(@Param("userId") Long userId, @Param("recruiterId") Long recruiterId);
+
+    // A locking (current) read: a plain read inside the transaction can return the REPEATABLE READ snapshot
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.status FROM Application a WHERE a.id = :id")
+    Optional<Application.ApplicationStatus> lockStatusById(@Param("id") Long id);
+
+    // Compare-and-set transition; bumps the version so entity-based writers notice the change
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :to, a.version = a.version + 1, a.lastModifiedAt = :now "
+            + "WHERE a.id = :id AND a.status = :expected")
+    int transitionStatus(@Param("id") Long id, @Param("expected") Application.ApplicationStatus expected,
+                         @Param("to") Application.ApplicationStatus to, @Param("now") LocalDateTime now);
+
+    // Rows of [id, status, jobId, recruiterId, userId, jobTitle, companyName]: everything a bulk move
+    // needs to validate, count and notify without loading entities
+    @Query("SELECT a.id, a.status, j.id, j.recruiter.id, a.user.id, j.title, j.companyName "
+            + "FROM Application a JOIN a.job j WHERE a.id IN :ids")
+    List<Object[]> findTransitionRows(@Param("ids") Collection<Long> ids);
+
+    // Locks the rows that are still in the validated status; the rest changed since validation
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM Application a WHERE a.id IN :ids AND a.status = :status")
+    List<Long> lockIdsInStatus(@Param("ids") Collection<Long> ids, @Param("status") Application.ApplicationStatus status);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :to, a.version = a.version + 1, a.lastModifiedAt = :now "
+            + "WHERE a.id IN :ids AND a.status = :expected")
+    int bulkTransition(@Param("ids") Collection<Long> ids, @Param("expected") Application.ApplicationStatus expected,
+                       @Param("to") Application.ApplicationStatus to, @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.appliedAt FROM Application a WHERE a.id = :id")
+    Optional<LocalDateTime> findAppliedAtById(@Param("id") Long id);
+
+    // Rows of [jobId, status, count, max(appliedAt)], used to rebuild JobStats a chunk of jobs at a time
+    @Query("SELECT a.job.id, a.status, COUNT(a), MAX(a.appliedAt) FROM Application a WHERE a.job.id IN :jobIds "
+            + "GROUP BY a.job.id, a.status")
+    List<Object[]> countByJobAndStatus(@Param("jobIds") Collection<Long> jobIds);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based writes used by the application intake batcher and bulk status moves. Each call issues
+ * a fixed number of statements regardless of how many applications it covers.
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Returns the subset of {@code userIds} that already applied to the job.
+     */
+    Set<Long> findApplicantIds(Long jobId, Collection<Long> userIds);
+
+    /**
+     * Inserts the applications with status APPLIED and their initial history rows using one
+     * multi-row INSERT each, and returns the generated application ids keyed by user id.
+     */
+    Map<Long, Long> insertApplied(Long jobId, List<NewApplication> applications);
+
+    /**
+     * Inserts one history row per application recording the move from {@code from} to {@code to}
+     * with a single INSERT ... SELECT.
+     */
+    void insertStatusHistory(Collection<Long> applicationIds, ApplicationStatus from, ApplicationStatus to,
+                             Long updatedBy, LocalDateTime timestamp);
+
+    record NewApplication(Long userId, Long candidateProfileId, LocalDateTime appliedAt) {
+    }
+}
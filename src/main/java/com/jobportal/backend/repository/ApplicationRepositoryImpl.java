@@ -0,0 +1,99 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.Application;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    private static final String APPLIED = Application.ApplicationStatus.APPLIED.name();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<Long> findApplicantIds(Long jobId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(jobId);
+        args.addAll(userIds);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM applications WHERE job_id = ? AND user_id IN (" + placeholders(userIds.size()) + ")",
+                Long.class, args.toArray()));
+    }
+
+    @Override
+    public Map<Long, Long> insertApplied(Long jobId, List<NewApplication> applications) {
+        if (applications.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        StringBuilder insert = new StringBuilder(
+                "INSERT INTO applications (user_id, job_id, candidate_profile_id, status, applied_at, created_at, version) VALUES ");
+        List<Object> insertArgs = new ArrayList<>(applications.size() * 6);
+        List<Object> userArgs = new ArrayList<>(applications.size() + 1);
+        userArgs.add(jobId);
+        for (int i = 0; i < applications.size(); i++) {
+            NewApplication application = applications.get(i);
+            insert.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, 0)");
+            insertArgs.add(application.userId());
+            insertArgs.add(jobId);
+            insertArgs.add(application.candidateProfileId());
+            insertArgs.add(APPLIED);
+            insertArgs.add(Timestamp.valueOf(application.appliedAt()));
+            insertArgs.add(now);
+            userArgs.add(application.userId());
+        }
+        jdbcTemplate.update(insert.toString(), insertArgs.toArray());
+
+        // History rows are derived from the rows just inserted, so no generated keys are needed
+        String forBatch = " FROM applications WHERE job_id = ? AND user_id IN (" + placeholders(applications.size()) + ")";
+        List<Object> historyArgs = new ArrayList<>(userArgs.size() + 1);
+        historyArgs.add(now);
+        historyArgs.addAll(userArgs);
+        jdbcTemplate.update("INSERT INTO application_status_history (application_id, new_status, updated_by, timestamp)"
+                + " SELECT id, '" + APPLIED + "', user_id, ?" + forBatch, historyArgs.toArray());
+
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, id" + forBatch,
+                rs -> {
+                    ids.put(rs.getLong(1), rs.getLong(2));
+                }, userArgs.toArray());
+        return ids;
+    }
+
+    @Override
+    public void insertStatusHistory(Collection<Long> applicationIds, Application.ApplicationStatus from,
+                                    Application.ApplicationStatus to, Long updatedBy, LocalDateTime timestamp) {
+        if (applicationIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(applicationIds.size() + 4);
+        args.add(from.name());
+        args.add(to.name());
+        args.add(updatedBy);
+        args.add(Timestamp.valueOf(timestamp));
+        args.addAll(applicationIds);
+        jdbcTemplate.update("INSERT INTO application_status_history (application_id, old_status, new_status, updated_by, timestamp)"
+                + " SELECT id, ?, ?, ?, ? FROM applications WHERE id IN (" + placeholders(applicationIds.size()) + ")",
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
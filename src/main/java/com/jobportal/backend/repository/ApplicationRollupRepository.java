@@ -0,0 +1,29 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.ApplicationRollup;
+import com.jobportal.backend.model.ApplicationRollup.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ApplicationRollupRepository extends JpaRepository<ApplicationRollup, Long> {
+    List<ApplicationRollup> findByGranularityAndJobIdInAndBucketStartIn(Granularity granularity,
+            Collection<Long> jobIds, Collection<LocalDateTime> bucketStarts);
+
+    List<ApplicationRollup> findByGranularityAndJobIdAndBucketStartBetweenOrderByBucketStart(Granularity granularity,
+            Long jobId, LocalDateTime from, LocalDateTime to);
+
+    List<ApplicationRollup> findByGranularityAndRecruiterIdAndBucketStartBetween(Granularity granularity,
+            Long recruiterId, LocalDateTime from, LocalDateTime to);
+
+    // Rows of [recruiterId, applied, shortlisted, rejected]
+    @Query("SELECT r.recruiterId, SUM(r.appliedCount), SUM(r.shortlistedCount), SUM(r.rejectedCount) "
+            + "FROM ApplicationRollup r WHERE r.granularity = :granularity AND r.bucketStart BETWEEN :from AND :to "
+            + "GROUP BY r.recruiterId")
+    List<Object[]> sumByRecruiter(@Param("granularity") Granularity granularity,
+                                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
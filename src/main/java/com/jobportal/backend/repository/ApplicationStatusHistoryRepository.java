@@ -1,9 +1,22 @@
 package com.jobportal.backend.repository;
 
 import com.jobportal.backend.model.ApplicationStatusHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, Long> {
-    List<ApplicationStatusHistory> findByApplicationIdOrderByTimestampDesc(Long applicationId);
+    // The lower bound (the application's appliedAt) lets PostgreSQL prune older partitions
+    List<ApplicationStatusHistory> findByApplicationIdAndTimestampGreaterThanEqualOrderByTimestampDesc(
+            Long applicationId, LocalDateTime since);
+
+    // Rows of [id, oldStatus, newStatus, timestamp, jobId, recruiterId, appliedAt] for the analytics rollup
+    @Query("SELECT h.id, h.oldStatus, h.newStatus, h.timestamp, j.id, j.recruiter.id, a.appliedAt "
+            + "FROM ApplicationStatusHistory h JOIN h.application a JOIN a.job j "
+            + "WHERE h.id > :afterId ORDER BY h.id")
+    List<Object[]> findRollupEvents(@Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.ArchivedPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchivedPartitionRepository extends JpaRepository<ArchivedPartition, String> {
+    List<ArchivedPartition> findByTableNameAndRehydratedAtIsNull(String tableName);
+
+    List<ArchivedPartition> findByTableNameAndRehydratedAtIsNullAndRangeEndGreaterThan(String tableName,
+            LocalDateTime from);
+}
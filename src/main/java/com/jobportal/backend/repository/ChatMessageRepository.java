@@ -4,20 +4,28 @@ import com.jobportal.backend.model.ChatMessage;
 import com.jobportal.backend.model.ChatRoom;
 import com.jobportal.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
+// chat_messages is range-partitioned by created_at on PostgreSQL; every query is bounded below by
+// the room's creation time so partitions from before the room existed are pruned
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
-    long countByChatRoomAndSenderRole(ChatRoom chatRoom, User.Role role);
-    java.util.Optional<ChatMessage> findFirstByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom);
-    long countByChatRoomAndSenderNotAndIsReadFalse(ChatRoom chatRoom, User sender);
+    List<ChatMessage> findByChatRoomAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(ChatRoom chatRoom,
+            LocalDateTime since);
+    long countByChatRoomAndSenderRoleAndCreatedAtGreaterThanEqual(ChatRoom chatRoom, User.Role role,
+            LocalDateTime since);
+    java.util.Optional<ChatMessage> findFirstByChatRoomAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            ChatRoom chatRoom, LocalDateTime since);
+    long countByChatRoomAndSenderNotAndIdGreaterThanAndCreatedAtGreaterThanEqual(ChatRoom chatRoom, User sender,
+            Long lastReadMessageId, LocalDateTime since);
 
-    @Modifying
-    @Query("UPDATE ChatMessage m SET m.isRead = true WHERE m.chatRoom = :chatRoom AND m.sender != :user AND m.isRead = false")
-    void markMessagesAsRead(ChatRoom chatRoom, User user);
+    @Query("SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = :chatRoom AND m.sender.id <> :readerId "
+            + "AND m.createdAt >= :since")
+    Long findLatestIdFromOthers(@Param("chatRoom") ChatRoom chatRoom, @Param("readerId") Long readerId,
+            @Param("since") LocalDateTime since);
 }
@@ -3,7 +3,11 @@ package com.jobportal.backend.repository;
 import com.jobportal.backend.model.ChatRoom;
 import com.jobportal.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.List;
@@ -13,4 +17,17 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByRecruiterAndCandidate(User recruiter, User candidate);
     List<ChatRoom> findByRecruiter(User recruiter);
     List<ChatRoom> findByCandidate(User candidate);
+
+    // Read watermarks only move forward, so a late or repeated flush never un-reads messages
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.recruiterLastReadMessageId = :messageId WHERE r.id = :id "
+            + "AND (r.recruiterLastReadMessageId IS NULL OR r.recruiterLastReadMessageId < :messageId)")
+    int advanceRecruiterLastRead(@Param("id") Long id, @Param("messageId") Long messageId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.candidateLastReadMessageId = :messageId WHERE r.id = :id "
+            + "AND (r.candidateLastReadMessageId IS NULL OR r.candidateLastReadMessageId < :messageId)")
+    int advanceCandidateLastRead(@Param("id") Long id, @Param("messageId") Long messageId);
 }
@@ -5,6 +5,7 @@ import com.jobportal.backend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 
@@ -16,4 +17,7 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     Page<Job> findByTitleContainingIgnoreCaseOrLocationContainingIgnoreCase(
             String title, String location, Pageable pageable);
 
+    @Query("SELECT j.id FROM Job j ORDER BY j.id")
+    List<Long> findAllIds();
+
 }
\ No newline at end of file
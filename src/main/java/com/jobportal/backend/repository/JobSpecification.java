@@ -0,0 +1,139 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.Job;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class JobSpecification {
+
+    // Quoted phrases ("senior java") or single terms, optionally ending with * for prefix matching
+    private static final Pattern TERM_PATTERN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private JobSpecification() {
+    }
+
+    public static Specification<Job> withFilters(String search, String jobType, String experienceLevel) {
+        return withFilters(search, jobType, experienceLevel, false);
+    }
+
+    /**
+     * Builds the job listing filter. With {@code fullText} enabled the search is matched against the
+     * PostgreSQL tsvector expression (backed by a GIN index) and results are ordered by ts_rank;
+     * otherwise it falls back to case-insensitive LIKE predicates, which work on any database.
+     */
+    public static Specification<Job> withFilters(String search, String jobType, String experienceLevel,
+            boolean fullText) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (StringUtils.isNotBlank(search)) {
+                List<SearchTerm> terms = parseSearch(search);
+                String tsQuery = fullText ? toTsQuery(terms) : null;
+
+                if (tsQuery != null) {
+                    Expression<Boolean> match = cb.function("job_fts_match", Boolean.class,
+                            root.get("title"), root.get("companyName"), root.get("location"),
+                            root.get("description"), cb.literal(tsQuery));
+                    predicates.add(cb.isTrue(match));
+
+                    // Only the data query is ranked; the count query must stay unordered
+                    if (query.getResultType() != null && Job.class.equals(query.getResultType())) {
+                        Expression<Double> rank = cb.function("job_fts_rank", Double.class,
+                                root.get("title"), root.get("companyName"), root.get("location"),
+                                root.get("description"), cb.literal(tsQuery));
+                        query.orderBy(cb.desc(rank), cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+                    }
+                } else {
+                    for (SearchTerm term : terms) {
+                        String pattern = "%" + term.text().toLowerCase() + "%";
+                        predicates.add(cb.or(
+                                cb.like(cb.lower(root.get("title")), pattern),
+                                cb.like(cb.lower(root.get("companyName")), pattern),
+                                cb.like(cb.lower(root.get("location")), pattern)));
+                    }
+                }
+            }
+
+            if (StringUtils.isNotBlank(jobType)) {
+                predicates.add(cb.equal(root.get("jobType"), jobType));
+            }
+
+            if (StringUtils.isNotBlank(experienceLevel)) {
+                predicates.add(cb.equal(root.get("experienceLevel"), experienceLevel));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Whether {@link #withFilters} orders the data query by ts_rank itself, i.e. full-text search is
+     * enabled and the search yields a tsquery. Searches made only of operator characters fall back
+     * to LIKE and need the caller's sort.
+     */
+    public static boolean isRanked(String search, boolean fullText) {
+        return fullText && StringUtils.isNotBlank(search) && toTsQuery(parseSearch(search)) != null;
+    }
+
+    static List<SearchTerm> parseSearch(String search) {
+        List<SearchTerm> terms = new ArrayList<>();
+        Matcher matcher = TERM_PATTERN.matcher(search.trim());
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                String phrase = matcher.group(1).trim();
+                if (!phrase.isEmpty()) {
+                    terms.add(new SearchTerm(phrase, true, false));
+                }
+            } else {
+                String word = matcher.group(2);
+                boolean prefix = word.endsWith("*");
+                String text = StringUtils.stripEnd(word, "*");
+                if (!text.isEmpty()) {
+                    terms.add(new SearchTerm(text, false, prefix));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Renders parsed terms as a to_tsquery expression: terms are AND-ed, phrases use the
+     * followed-by operator and prefix terms get the :* suffix. Everything except letters and
+     * digits is stripped so user input can never produce a tsquery syntax error.
+     */
+    static String toTsQuery(List<SearchTerm> terms) {
+        List<String> parts = new ArrayList<>();
+        for (SearchTerm term : terms) {
+            String[] words = NON_WORD.split(term.text().toLowerCase());
+            List<String> lexemes = new ArrayList<>();
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    lexemes.add(word);
+                }
+            }
+            if (lexemes.isEmpty()) {
+                continue;
+            }
+            if (term.phrase() && lexemes.size() > 1) {
+                parts.add("(" + String.join(" <-> ", lexemes) + ")");
+            } else {
+                String last = lexemes.get(lexemes.size() - 1) + (term.prefix() ? ":*" : "");
+                lexemes.set(lexemes.size() - 1, last);
+                parts.add(lexemes.size() > 1 ? "(" + String.join(" & ", lexemes) + ")" : last);
+            }
+        }
+        return parts.isEmpty() ? null : String.join(" & ", parts);
+    }
+
+    record SearchTerm(String text, boolean phrase, boolean prefix) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.JobStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JobStatsRepository extends JpaRepository<JobStats, Long>, JobStatsRepositoryCustom {
+    List<JobStats> findByJobIdIn(Collection<Long> jobIds);
+
+    @Query("SELECT j.id FROM Job j WHERE NOT EXISTS (SELECT 1 FROM JobStats s WHERE s.jobId = j.id) ORDER BY j.id")
+    List<Long> findJobIdsWithoutStats();
+
+    @Modifying
+    @Query("UPDATE JobStats s SET s.appliedCount = s.appliedCount + :count, "
+            + "s.lastAppliedAt = CASE WHEN s.lastAppliedAt IS NULL OR s.lastAppliedAt < :appliedAt "
+            + "THEN :appliedAt ELSE s.lastAppliedAt END WHERE s.jobId = :jobId")
+    int addApplications(@Param("jobId") Long jobId, @Param("count") long count,
+                        @Param("appliedAt") LocalDateTime appliedAt);
+
+    @Modifying
+    @Query("UPDATE JobStats s SET s.appliedCount = s.appliedCount + :applied, "
+            + "s.shortlistedCount = s.shortlistedCount + :shortlisted, "
+            + "s.rejectedCount = s.rejectedCount + :rejected, "
+            + "s.inProgressCount = s.inProgressCount + :inProgress, "
+            + "s.hiredCount = s.hiredCount + :hired WHERE s.jobId = :jobId")
+    int addDeltas(@Param("jobId") Long jobId, @Param("applied") long applied,
+                  @Param("shortlisted") long shortlisted, @Param("rejected") long rejected,
+                  @Param("inProgress") long inProgress, @Param("hired") long hired);
+
+    // Recount result; callers hold the row lock from lockOrCreate
+    @Modifying
+    @Query("UPDATE JobStats s SET s.appliedCount = :applied, s.shortlistedCount = :shortlisted, "
+            + "s.rejectedCount = :rejected, s.inProgressCount = :inProgress, s.hiredCount = :hired, "
+            + "s.lastAppliedAt = :lastAppliedAt WHERE s.jobId = :jobId")
+    int overwrite(@Param("jobId") Long jobId, @Param("applied") long applied,
+                  @Param("shortlisted") long shortlisted, @Param("rejected") long rejected,
+                  @Param("inProgress") long inProgress, @Param("hired") long hired,
+                  @Param("lastAppliedAt") LocalDateTime lastAppliedAt);
+}
@@ -0,0 +1,17 @@
+package com.jobportal.backend.repository;
+
+import java.util.Collection;
+
+/**
+ * Row locking for recomputing job statistics while increments may run concurrently.
+ */
+public interface JobStatsRepositoryCustom {
+
+    /**
+     * Creates the stats rows of the given jobs with zero counters unless they exist, then locks
+     * them in ascending job id order until the transaction ends. Increments update the same
+     * rows, so they wait for a recount holding the locks, and the recount waits for increments
+     * already applied to commit.
+     */
+    void lockOrCreate(Collection<Long> jobIds);
+}
@@ -0,0 +1,65 @@
+package com.jobportal.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+class JobStatsRepositoryImpl implements JobStatsRepositoryCustom {
+
+    private static final String INTO = " INTO job_stats (job_id, applied_count, shortlisted_count, "
+            + "rejected_count, in_progress_count, hired_count) VALUES (?, 0, 0, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String databaseProduct;
+
+    @Override
+    public void lockOrCreate(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        List<Long> sorted = jobIds.stream().sorted().distinct().toList();
+        String product = databaseProduct();
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.batchUpdate("INSERT" + INTO + " ON CONFLICT DO NOTHING", args(sorted));
+        } else if ("MySQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.batchUpdate("INSERT IGNORE" + INTO, args(sorted));
+        } else {
+            insertMissing(sorted);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(sorted.size(), "?"));
+        jdbcTemplate.queryForList("SELECT job_id FROM job_stats WHERE job_id IN (" + placeholders + ") "
+                + "ORDER BY job_id FOR UPDATE", Long.class, sorted.toArray());
+    }
+
+    // Plain inserts for other databases; a row created concurrently is fine, it is locked next
+    private void insertMissing(List<Long> jobIds) {
+        for (Long jobId : jobIds) {
+            try {
+                jdbcTemplate.update("INSERT" + INTO, jobId);
+            } catch (DuplicateKeyException e) {
+                // Already exists
+            }
+        }
+    }
+
+    private static List<Object[]> args(List<Long> jobIds) {
+        return jobIds.stream().map(jobId -> new Object[]{jobId}).toList();
+    }
+
+    private String databaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            databaseProduct = product;
+        }
+        return product;
+    }
+}
@@ -1,10 +1,58 @@
 package com.jobportal.backend.repository;
 
 import com.jobportal.backend.model.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
     long countByUserIdAndIsReadFalse(Long userId);
+
+    // Keyset feed: newest first, continuing below the last id the client has seen
+    List<Notification> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+    List<Notification> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    Optional<Notification> findFirstByUserIdAndTypeAndJobIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(
+            Long userId, Notification.NotificationType type, Long jobId, LocalDateTime createdAfter);
+
+    // Relative, so concurrent merges add up; conditional so a notification the user has just read
+    // is never reopened by a merge. The message starts with the new total.
+    @Modifying
+    @Query("UPDATE Notification n SET n.aggregateCount = n.aggregateCount + :count, " +
+            "n.message = CONCAT(CAST(n.aggregateCount + :count AS String), :messageSuffix), n.updatedAt = :updatedAt " +
+            "WHERE n.id = :id AND n.isRead = false")
+    int mergeInto(@Param("id") Long id, @Param("count") int count,
+                  @Param("messageSuffix") String messageSuffix, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT n.aggregateCount FROM Notification n WHERE n.id = :id")
+    int findAggregateCountById(@Param("id") Long id);
+
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n WHERE n.isRead = false AND n.user.id IN :userIds GROUP BY n.user.id")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.id <= :upToId")
+    int markAllAsRead(@Param("userId") Long userId, @Param("upToId") Long upToId);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,20 @@
+package com.jobportal.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based notification writes used by bulk operations, so notifying many recipients costs one
+ * round trip instead of one insert per notification.
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Inserts unread GENERAL notifications in one JDBC batch and returns their generated ids in
+     * the order of {@code notifications}.
+     */
+    List<Long> insertAll(List<NewNotification> notifications, LocalDateTime createdAt);
+
+    record NewNotification(Long userId, String message) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO notifications "
+            + "(user_id, message, type, aggregate_count, is_read, created_at) VALUES (?, ?, ?, 1, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<NewNotification> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewNotification notification = notifications.get(i);
+                        ps.setLong(1, notification.userId());
+                        ps.setString(2, notification.message());
+                        ps.setString(3, Notification.NotificationType.GENERAL.name());
+                        ps.setTimestamp(4, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                }, keys);
+        // The key column is reported as "id" or "ID" depending on the driver
+        return keys.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobportal.backend.repository;
+
+import com.jobportal.backend.model.RecruiterPipeline;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RecruiterPipelineRepository extends JpaRepository<RecruiterPipeline, Long> {
+}
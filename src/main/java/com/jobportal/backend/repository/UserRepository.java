@@ -2,9 +2,22 @@ package com.jobportal.backend.repository;
 
 import com.jobportal.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // Only replaces the hash that was verified, so a concurrent password change wins
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash, u.lastModifiedAt = :now WHERE u.id = :id AND u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash,
+                            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,203 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import com.jobportal.backend.model.AnalyticsWatermark;
+import com.jobportal.backend.model.ApplicationRollup;
+import com.jobportal.backend.model.ApplicationRollup.Granularity;
+import com.jobportal.backend.repository.AnalyticsWatermarkRepository;
+import com.jobportal.backend.repository.ApplicationRollupRepository;
+import com.jobportal.backend.repository.ApplicationStatusHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Folds new ApplicationStatusHistory rows into hourly and daily {@link ApplicationRollup}s.
+ * Progress is tracked as a high-watermark on the history id, so every run only reads rows it has
+ * not seen and reports never touch the raw history.
+ * <p>
+ * Identity ids can become visible out of order when concurrent transactions commit, so rows
+ * younger than the settle period are left for the next run; processing stops at the first one.
+ */
+@Slf4j
+@Service
+public class AnalyticsRollupService {
+
+    static final String WATERMARK = "application-status-history";
+
+    private final ApplicationStatusHistoryRepository historyRepository;
+    private final ApplicationRollupRepository rollupRepository;
+    private final AnalyticsWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration settlePeriod;
+
+    public AnalyticsRollupService(ApplicationStatusHistoryRepository historyRepository,
+                                  ApplicationRollupRepository rollupRepository,
+                                  AnalyticsWatermarkRepository watermarkRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.analytics.batch-size:5000}") int batchSize,
+                                  @Value("${app.analytics.settle-seconds:120}") long settleSeconds) {
+        this.historyRepository = historyRepository;
+        this.rollupRepository = rollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.settlePeriod = Duration.ofSeconds(settleSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rollup-interval-ms:60000}")
+    public void rollUp() {
+        try {
+            int processed;
+            int total = 0;
+            do {
+                processed = transactionTemplate.execute(status -> rollUpBatch());
+                total += processed;
+            } while (processed == batchSize);
+            if (total > 0) {
+                log.debug("Rolled up {} status history rows", total);
+            }
+        } catch (DataIntegrityViolationException | ConcurrentRollupException e) {
+            // Another instance rolled up the same rows first; the next run continues from its watermark
+            log.debug("Analytics rollup skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Processes one batch in the caller's transaction and returns the number of rows consumed.
+     */
+    int rollUpBatch() {
+        AnalyticsWatermark watermark = watermarkRepository.findById(WATERMARK)
+                .orElseGet(() -> watermarkRepository.saveAndFlush(AnalyticsWatermark.builder()
+                        .name(WATERMARK)
+                        .lastId(0L)
+                        .build()));
+        long fromId = watermark.getLastId();
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settlePeriod);
+
+        Map<BucketKey, Delta> deltas = new HashMap<>();
+        long lastId = fromId;
+        int consumed = 0;
+        for (Object[] row : historyRepository.findRollupEvents(fromId, Limit.of(batchSize))) {
+            LocalDateTime timestamp = (LocalDateTime) row[3];
+            if (timestamp != null && !timestamp.isBefore(settledBefore)) {
+                break;
+            }
+            lastId = (Long) row[0];
+            consumed++;
+            if (timestamp != null) {
+                accumulate(deltas, (ApplicationStatus) row[1], (ApplicationStatus) row[2], timestamp,
+                        (Long) row[4], (Long) row[5], (LocalDateTime) row[6]);
+            }
+        }
+        if (consumed == 0) {
+            return 0;
+        }
+
+        apply(deltas);
+        if (watermarkRepository.advance(WATERMARK, fromId, lastId, LocalDateTime.now()) == 0) {
+            throw new ConcurrentRollupException();
+        }
+        return consumed;
+    }
+
+    private void accumulate(Map<BucketKey, Delta> deltas, ApplicationStatus oldStatus, ApplicationStatus newStatus,
+                            LocalDateTime timestamp, Long jobId, Long recruiterId, LocalDateTime appliedAt) {
+        for (Granularity granularity : Granularity.values()) {
+            LocalDateTime bucket = granularity == Granularity.HOURLY
+                    ? timestamp.truncatedTo(ChronoUnit.HOURS)
+                    : timestamp.truncatedTo(ChronoUnit.DAYS);
+            Delta delta = deltas.computeIfAbsent(new BucketKey(granularity, bucket, jobId), key -> new Delta(recruiterId));
+
+            if (newStatus == ApplicationStatus.APPLIED && oldStatus == null) {
+                delta.applied++;
+            } else if (newStatus == ApplicationStatus.SHORTLISTED && oldStatus != ApplicationStatus.SHORTLISTED) {
+                delta.shortlisted++;
+                if (appliedAt != null) {
+                    delta.timeToShortlist.record(Duration.between(appliedAt, timestamp));
+                }
+            } else if (newStatus == ApplicationStatus.REJECTED && oldStatus != ApplicationStatus.REJECTED) {
+                delta.rejected++;
+            }
+        }
+    }
+
+    private void apply(Map<BucketKey, Delta> deltas) {
+        for (Granularity granularity : Granularity.values()) {
+            Set<Long> jobIds = new HashSet<>();
+            Set<LocalDateTime> buckets = new HashSet<>();
+            deltas.keySet().stream()
+                    .filter(key -> key.granularity == granularity)
+                    .forEach(key -> {
+                        jobIds.add(key.jobId);
+                        buckets.add(key.bucketStart);
+                    });
+            if (jobIds.isEmpty()) {
+                continue;
+            }
+
+            Map<BucketKey, ApplicationRollup> rollups = new HashMap<>();
+            for (ApplicationRollup rollup : rollupRepository.findByGranularityAndJobIdInAndBucketStartIn(
+                    granularity, jobIds, buckets)) {
+                rollups.put(new BucketKey(granularity, rollup.getBucketStart(), rollup.getJobId()), rollup);
+            }
+
+            deltas.forEach((key, delta) -> {
+                if (key.granularity != granularity) {
+                    return;
+                }
+                ApplicationRollup rollup = rollups.computeIfAbsent(key, k -> ApplicationRollup.builder()
+                        .granularity(k.granularity)
+                        .bucketStart(k.bucketStart)
+                        .jobId(k.jobId)
+                        .recruiterId(delta.recruiterId)
+                        .build());
+                rollup.setAppliedCount(rollup.getAppliedCount() + delta.applied);
+                rollup.setShortlistedCount(rollup.getShortlistedCount() + delta.shortlisted);
+                rollup.setRejectedCount(rollup.getRejectedCount() + delta.rejected);
+                if (delta.timeToShortlist.count() > 0) {
+                    rollup.setTimeToShortlist(LatencySketch.decode(rollup.getTimeToShortlist())
+                            .merge(delta.timeToShortlist)
+                            .encode());
+                }
+            });
+            rollupRepository.saveAll(rollups.values());
+        }
+    }
+
+    private record BucketKey(Granularity granularity, LocalDateTime bucketStart, Long jobId) {
+    }
+
+    private static final class Delta {
+        private final Long recruiterId;
+        private final LatencySketch timeToShortlist = new LatencySketch();
+        private long applied;
+        private long shortlisted;
+        private long rejected;
+
+        private Delta(Long recruiterId) {
+            this.recruiterId = recruiterId;
+        }
+    }
+
+    private static final class ConcurrentRollupException extends RuntimeException {
+        private ConcurrentRollupException() {
+            super("watermark was advanced concurrently");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ApplicationRollupResponse;
+import com.jobportal.backend.dto.RejectionRateResponse;
+import com.jobportal.backend.dto.TimeToShortlistResponse;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import com.jobportal.backend.model.ApplicationRollup;
+import com.jobportal.backend.model.ApplicationRollup.Granularity;
+import com.jobportal.backend.model.Job;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.ApplicationRollupRepository;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Recruiter and admin reports, served exclusively from the rollups maintained by
+ * AnalyticsRollupService.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(7);
+
+    private final ApplicationRollupRepository rollupRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final SecurityUtils securityUtils;
+
+    public List<ApplicationRollupResponse> getJobActivity(Long jobId, Granularity granularity,
+                                                          LocalDateTime from, LocalDateTime to) {
+        if (granularity == Granularity.HOURLY && Duration.between(from, to).compareTo(MAX_HOURLY_RANGE) > 0) {
+            throw new IllegalArgumentException("Hourly reports are limited to 7 days");
+        }
+        Job job = findOwnJob(jobId);
+        return rollupRepository.findByGranularityAndJobIdAndBucketStartBetweenOrderByBucketStart(
+                        granularity, job.getId(), from, to)
+                .stream()
+                .map(rollup -> ApplicationRollupResponse.builder()
+                        .bucketStart(rollup.getBucketStart())
+                        .appliedCount(rollup.getAppliedCount())
+                        .shortlistedCount(rollup.getShortlistedCount())
+                        .rejectedCount(rollup.getRejectedCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Percentiles of the time from applying to being shortlisted, for one of the current
+     * recruiter's jobs or, without a job, across all of them. Merges the daily sketches.
+     */
+    public TimeToShortlistResponse getTimeToShortlist(Long jobId, LocalDateTime from, LocalDateTime to) {
+        List<ApplicationRollup> rollups = jobId != null
+                ? rollupRepository.findByGranularityAndJobIdAndBucketStartBetweenOrderByBucketStart(
+                        Granularity.DAILY, findOwnJob(jobId).getId(), from, to)
+                : rollupRepository.findByGranularityAndRecruiterIdAndBucketStartBetween(
+                        Granularity.DAILY, currentUser().getId(), from, to);
+
+        LatencySketch sketch = new LatencySketch();
+        for (ApplicationRollup rollup : rollups) {
+            if (rollup.getTimeToShortlist() != null) {
+                sketch.merge(LatencySketch.decode(rollup.getTimeToShortlist()));
+            }
+        }
+        return TimeToShortlistResponse.builder()
+                .sampleCount(sketch.count())
+                .p50Minutes(sketch.percentileMinutes(50))
+                .p75Minutes(sketch.percentileMinutes(75))
+                .p90Minutes(sketch.percentileMinutes(90))
+                .p99Minutes(sketch.percentileMinutes(99))
+                .build();
+    }
+
+    public List<RejectionRateResponse> getRejectionRates(LocalDateTime from, LocalDateTime to) {
+        return rollupRepository.sumByRecruiter(Granularity.DAILY, from, to).stream()
+                .map(row -> {
+                    long shortlisted = ((Number) row[2]).longValue();
+                    long rejected = ((Number) row[3]).longValue();
+                    long decisions = shortlisted + rejected;
+                    return RejectionRateResponse.builder()
+                            .recruiterId((Long) row[0])
+                            .applicationsReceived(((Number) row[1]).longValue())
+                            .shortlistedCount(shortlisted)
+                            .rejectedCount(rejected)
+                            .rejectionRate(decisions == 0 ? 0.0 : (double) rejected / decisions)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Job findOwnJob(Long jobId) {
+        User recruiter = currentUser();
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+        if (!job.getRecruiter().getId().equals(recruiter.getId())) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private User currentUser() {
+        return userRepository.findByEmail(securityUtils.getCurrentUserEmail())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+}
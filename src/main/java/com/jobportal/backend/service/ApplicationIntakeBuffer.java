@@ -0,0 +1,266 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.ConflictException;
+import com.jobportal.backend.exception.ServiceUnavailableException;
+import com.jobportal.backend.exception.TooManyRequestsException;
+import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.ApplicationRepositoryCustom.NewApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Smooths application bursts for popular jobs. Validated applications are queued per job and
+ * written by a sequential batcher: each job is drained by at most one worker at a time, and each
+ * batch costs one transaction with a multi-row insert for the applications and their history
+ * and one JobStats update, plus a single coalesced recruiter notification. Concurrent submissions therefore no longer
+ * contend on the same rows, and duplicates are resolved inside the batcher.
+ * <p>
+ * The number of queued applications is capped; beyond it submissions are rejected with
+ * {@link TooManyRequestsException} so clients back off instead of piling up request threads.
+ */
+@Slf4j
+@Component
+public class ApplicationIntakeBuffer {
+
+    private static final String DUPLICATE_MESSAGE = "You have already applied for this job.";
+
+    private final ApplicationRepository applicationRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final JobStatsService jobStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, JobQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ExecutorService workers;
+
+    private final int maxInFlight;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    public ApplicationIntakeBuffer(ApplicationRepository applicationRepository,
+                                   NotificationCoalescer notificationCoalescer,
+                                   JobStatsService jobStatsService,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.applications.intake.workers:4}") int workerCount,
+                                   // Kept below the servlet thread pool so overload surfaces as 429 before requests queue up
+                                   @Value("${app.applications.intake.max-in-flight:150}") int maxInFlight,
+                                   @Value("${app.applications.intake.batch-size:200}") int batchSize,
+                                   @Value("${app.applications.intake.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.applicationRepository = applicationRepository;
+        this.notificationCoalescer = notificationCoalescer;
+        this.jobStatsService = jobStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxInFlight = maxInFlight;
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "application-intake-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.rejected = Counter.builder("applications.intake.rejected").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("applications.intake.batch.size").register(meterRegistry);
+        meterRegistry.gauge("applications.intake.queue.depth", inFlight);
+        meterRegistry.gauge("applications.intake.active.jobs", queues, Map::size);
+    }
+
+    /**
+     * Queues an already validated application. The returned future completes with the new
+     * application id once its batch commits, exceptionally with {@link ConflictException} for a
+     * duplicate, or with {@link ServiceUnavailableException} when the batch could not be saved.
+     */
+    public CompletableFuture<Long> submit(Intake intake) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            throw new TooManyRequestsException("Too many applications are being processed. Please retry shortly.",
+                    retryAfterSeconds);
+        }
+
+        Pending pending = new Pending(intake, new CompletableFuture<>());
+        // compute() makes enqueueing atomic with the idle-queue removal in drain()
+        JobQueue queue = queues.compute(intake.jobId(), (jobId, current) -> {
+            JobQueue target = current != null ? current : new JobQueue(jobId);
+            target.items.add(pending);
+            return target;
+        });
+        schedule(queue);
+        return pending.result;
+    }
+
+    public int getQueueDepth() {
+        return inFlight.get();
+    }
+
+    private void schedule(JobQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(JobQueue queue) {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        Pending next;
+        while (batch.size() < batchSize && (next = queue.items.poll()) != null) {
+            batch.add(next);
+        }
+
+        try {
+            if (!batch.isEmpty()) {
+                batchSizes.record(batch.size());
+                persist(queue.jobId, batch);
+            }
+        } catch (Exception e) {
+            log.error("Failed to persist {} applications for job {}", batch.size(), queue.jobId, e);
+        } finally {
+            // Never leave a request waiting, whatever happened above
+            batch.forEach(pending -> fail(pending,
+                    new ServiceUnavailableException("Application could not be saved. Please try again.")));
+            queue.scheduled.set(false);
+            queues.computeIfPresent(queue.jobId,
+                    (jobId, current) -> current == queue && current.items.isEmpty() ? null : current);
+            if (!queue.items.isEmpty()) {
+                schedule(queue);
+            }
+        }
+    }
+
+    private void persist(Long jobId, List<Pending> batch) {
+        // The same candidate may appear twice in one batch (double submit); the first one wins
+        Map<Long, Pending> byUser = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            if (byUser.putIfAbsent(pending.intake.userId(), pending) != null) {
+                fail(pending, new ConflictException(DUPLICATE_MESSAGE));
+            }
+        }
+
+        List<Pending> candidates = new ArrayList<>(byUser.values());
+        Map<Long, Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> insertNew(jobId, candidates));
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with another instance; retry row by row so only the duplicates fail
+            ids = new LinkedHashMap<>();
+            for (Pending pending : candidates) {
+                try {
+                    ids.putAll(transactionTemplate.execute(status -> insertNew(jobId, List.of(pending))));
+                } catch (DataIntegrityViolationException duplicate) {
+                    fail(pending, new ConflictException(DUPLICATE_MESSAGE));
+                }
+            }
+        }
+
+        Pending last = null;
+        int saved = 0;
+        for (Pending pending : candidates) {
+            Long id = ids.get(pending.intake.userId());
+            if (id != null && succeed(pending, id)) {
+                last = pending;
+                saved++;
+            }
+        }
+        if (last != null) {
+            notificationCoalescer.applicationsReceived(last.intake.recruiterId(), jobId, last.intake.jobTitle(),
+                    last.intake.userEmail(), saved);
+        }
+    }
+
+    private Map<Long, Long> insertNew(Long jobId, List<Pending> pendings) {
+        Set<Long> existing = applicationRepository.findApplicantIds(jobId,
+                pendings.stream().map(pending -> pending.intake.userId()).toList());
+        List<NewApplication> rows = new ArrayList<>(pendings.size());
+        LocalDateTime lastAppliedAt = null;
+        for (Pending pending : pendings) {
+            if (existing.contains(pending.intake.userId())) {
+                fail(pending, new ConflictException(DUPLICATE_MESSAGE));
+            } else {
+                rows.add(new NewApplication(pending.intake.userId(), pending.intake.candidateProfileId(),
+                        pending.intake.appliedAt()));
+                if (lastAppliedAt == null || pending.intake.appliedAt().isAfter(lastAppliedAt)) {
+                    lastAppliedAt = pending.intake.appliedAt();
+                }
+            }
+        }
+        Map<Long, Long> ids = applicationRepository.insertApplied(jobId, rows);
+        // Same transaction as the inserts, so the counters can never disagree with the rows
+        jobStatsService.recordApplications(jobId, ids.size(), lastAppliedAt);
+        return ids;
+    }
+
+    // Only the worker draining a batch completes its futures. Capacity is released before the
+    // waiter resumes, so an immediate retry is not rejected and the queue depth is already current.
+    private boolean succeed(Pending pending, Long id) {
+        if (pending.result.isDone()) {
+            return false;
+        }
+        inFlight.decrementAndGet();
+        return pending.result.complete(id);
+    }
+
+    private void fail(Pending pending, RuntimeException e) {
+        if (!pending.result.isDone()) {
+            inFlight.decrementAndGet();
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Let queued applications reach the database before the context closes
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Application intake did not drain in time; {} applications pending", inFlight.get());
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * A validated application waiting to be persisted.
+     */
+    public record Intake(Long jobId, Long recruiterId, String jobTitle, Long userId, String userEmail,
+                         Long candidateProfileId, LocalDateTime appliedAt) {
+    }
+
+    private record Pending(Intake intake, CompletableFuture<Long> result) {
+    }
+
+    private static final class JobQueue {
+        private final Long jobId;
+        private final Queue<Pending> items = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private JobQueue(Long jobId) {
+            this.jobId = jobId;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * A recruiter's hiring pipeline compiled into a transition table indexed by status ordinal, so
+ * checking a transition is two array reads. Instances are immutable and shared between threads.
+ */
+public final class ApplicationPipeline {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    /**
+     * Used by recruiters without a configured pipeline: the original three statuses, freely
+     * movable between each other.
+     */
+    public static final ApplicationPipeline DEFAULT = compile(Map.of(
+            ApplicationStatus.APPLIED, List.of(ApplicationStatus.SHORTLISTED, ApplicationStatus.REJECTED),
+            ApplicationStatus.SHORTLISTED, List.of(ApplicationStatus.APPLIED, ApplicationStatus.REJECTED),
+            ApplicationStatus.REJECTED, List.of(ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED)));
+
+    // allowed[from.ordinal()][to.ordinal()]
+    private final boolean[][] allowed;
+
+    private ApplicationPipeline(boolean[][] allowed) {
+        this.allowed = allowed;
+    }
+
+    /**
+     * Compiles allowed target statuses per source status. Self-transitions and source statuses
+     * that no transition leads to (other than APPLIED, where every application starts) are
+     * rejected with an IllegalArgumentException.
+     */
+    public static ApplicationPipeline compile(Map<ApplicationStatus, ? extends Collection<ApplicationStatus>> transitions) {
+        boolean[][] allowed = new boolean[STATUSES.length][STATUSES.length];
+        transitions.forEach((from, targets) -> {
+            for (ApplicationStatus to : targets) {
+                if (from == to) {
+                    throw new IllegalArgumentException("A status cannot transition to itself: " + from);
+                }
+                allowed[from.ordinal()][to.ordinal()] = true;
+            }
+        });
+
+        // Every configured source status except APPLIED (where all applications start) must be reachable
+        for (ApplicationStatus from : transitions.keySet()) {
+            if (from != ApplicationStatus.APPLIED && !transitions.get(from).isEmpty() && !isTarget(allowed, from)) {
+                throw new IllegalArgumentException("Status " + from + " can never be reached");
+            }
+        }
+        return new ApplicationPipeline(allowed);
+    }
+
+    /**
+     * Parses the stored form written by {@link #encode()}, e.g. {@code APPLIED>SCREENING,REJECTED;SCREENING>REJECTED}.
+     */
+    public static ApplicationPipeline decode(String encoded) {
+        Map<ApplicationStatus, List<ApplicationStatus>> transitions = new EnumMap<>(ApplicationStatus.class);
+        for (String rule : encoded.split(";")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String[] parts = rule.split(">", 2);
+            List<ApplicationStatus> targets = new ArrayList<>();
+            if (parts.length > 1) {
+                for (String target : parts[1].split(",")) {
+                    if (!target.isBlank()) {
+                        targets.add(ApplicationStatus.valueOf(target.trim()));
+                    }
+                }
+            }
+            transitions.put(ApplicationStatus.valueOf(parts[0].trim()), targets);
+        }
+        return compile(transitions);
+    }
+
+    public boolean canTransition(ApplicationStatus from, ApplicationStatus to) {
+        return allowed[from.ordinal()][to.ordinal()];
+    }
+
+    public Map<ApplicationStatus, List<ApplicationStatus>> transitions() {
+        Map<ApplicationStatus, List<ApplicationStatus>> transitions = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus from : STATUSES) {
+            for (ApplicationStatus to : STATUSES) {
+                if (allowed[from.ordinal()][to.ordinal()]) {
+                    transitions.computeIfAbsent(from, key -> new ArrayList<>()).add(to);
+                }
+            }
+        }
+        return transitions;
+    }
+
+    public String encode() {
+        StringJoiner rules = new StringJoiner(";");
+        transitions().forEach((from, targets) -> {
+            StringJoiner joined = new StringJoiner(",");
+            targets.forEach(to -> joined.add(to.name()));
+            rules.add(from.name() + ">" + joined);
+        });
+        return rules.toString();
+    }
+
+    private static boolean isTarget(boolean[][] allowed, ApplicationStatus status) {
+        for (boolean[] row : allowed) {
+            if (row[status.ordinal()]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.PipelineRequest;
+import com.jobportal.backend.dto.PipelineResponse;
+import com.jobportal.backend.exception.ResourceNotFoundException;
+import com.jobportal.backend.model.RecruiterPipeline;
+import com.jobportal.backend.repository.RecruiterPipelineRepository;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.SecurityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads and caches compiled recruiter pipelines. A pipeline is parsed once and then reused for
+ * status checks until its recruiter changes it on this instance, or until its TTL expires, which
+ * bounds how long a change made through another instance goes unnoticed.
+ */
+@Service
+public class ApplicationPipelineService {
+    private final RecruiterPipelineRepository pipelineRepository;
+    private final UserRepository userRepository;
+    private final SecurityUtils securityUtils;
+    private final Map<Long, CachedPipeline> compiled = new ConcurrentHashMap<>();
+    // Bumped by every local change, so a load that raced with it is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+
+    public ApplicationPipelineService(RecruiterPipelineRepository pipelineRepository,
+                                      UserRepository userRepository,
+                                      SecurityUtils securityUtils,
+                                      @Value("${app.pipelines.cache-ttl-seconds:30}") long ttlSeconds) {
+        this.pipelineRepository = pipelineRepository;
+        this.userRepository = userRepository;
+        this.securityUtils = securityUtils;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    public ApplicationPipeline getPipeline(Long recruiterId) {
+        CachedPipeline cached = compiled.get(recruiterId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt < ttlMillis) {
+            return cached.pipeline;
+        }
+        // Loaded outside the map so the query never holds a map lock; the generation read before
+        // the query tells whether a change committed meanwhile, in which case the row may be old
+        long loadGeneration = generation.get();
+        ApplicationPipeline loaded = pipelineRepository.findById(recruiterId)
+                .map(pipeline -> ApplicationPipeline.decode(pipeline.getTransitions()))
+                .orElse(ApplicationPipeline.DEFAULT);
+        CachedPipeline fresh = new CachedPipeline(loaded, System.currentTimeMillis());
+        compiled.compute(recruiterId, (id, current) -> generation.get() == loadGeneration ? fresh : current);
+        return loaded;
+    }
+
+    public PipelineResponse getMyPipeline() {
+        return convertToResponse(getPipeline(getCurrentUserId()));
+    }
+
+    @Transactional
+    public PipelineResponse updateMyPipeline(PipelineRequest request) {
+        Long recruiterId = getCurrentUserId();
+        ApplicationPipeline pipeline = ApplicationPipeline.compile(request.getTransitions());
+        RecruiterPipeline stored = pipelineRepository.findById(recruiterId)
+                .orElseGet(() -> RecruiterPipeline.builder().recruiterId(recruiterId).build());
+        stored.setTransitions(pipeline.encode());
+        pipelineRepository.save(stored);
+
+        afterCommit(() -> store(recruiterId, pipeline));
+        return convertToResponse(pipeline);
+    }
+
+    // Back to the default APPLIED / SHORTLISTED / REJECTED pipeline
+    @Transactional
+    public PipelineResponse resetMyPipeline() {
+        Long recruiterId = getCurrentUserId();
+        pipelineRepository.findById(recruiterId).ifPresent(pipelineRepository::delete);
+        afterCommit(() -> store(recruiterId, ApplicationPipeline.DEFAULT));
+        return convertToResponse(ApplicationPipeline.DEFAULT);
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = securityUtils.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
+        String email = securityUtils.getCurrentUserEmail();
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+                .getId();
+    }
+
+    // The bump comes first: a load computing its entry from here on sees a new generation and
+    // leaves this one in place, and one that computed earlier is overwritten below
+    private void store(Long recruiterId, ApplicationPipeline pipeline) {
+        generation.incrementAndGet();
+        compiled.put(recruiterId, new CachedPipeline(pipeline, System.currentTimeMillis()));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private PipelineResponse convertToResponse(ApplicationPipeline pipeline) {
+        return PipelineResponse.builder()
+                .transitions(pipeline.transitions())
+                .build();
+    }
+
+    private record CachedPipeline(ApplicationPipeline pipeline, long loadedAt) {
+    }
+}
@@ -1,76 +1,105 @@
 package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.*;
+import com.jobportal.backend.exception.ConflictException;
 import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.*;
 import com.jobportal.backend.repository.*;
+import com.jobportal.backend.repository.NotificationRepositoryCustom.NewNotification;
 import com.jobportal.backend.util.SecurityUtils;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ApplicationService {
+    // Keeps IN lists of bulk moves within what every supported database accepts
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
     private final ApplicationStatusHistoryRepository statusHistoryRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final ApplicationIntakeBuffer intakeBuffer;
+    private final JobStatsService jobStatsService;
+    private final TablePartitionService tablePartitionService;
+    private final ApplicationPipelineService pipelineService;
     private final CandidateProfileRepository candidateProfileRepository;
     private final CandidateProfileService candidateProfileService;
     private final SecurityUtils securityUtils;
+    private final int statusUpdateMaxAttempts;
 
-    @Transactional
-    public ApplicationResponse applyToJob(ApplicationRequest request) {
+    public ApplicationService(ApplicationRepository applicationRepository, UserRepository userRepository,
+                              JobRepository jobRepository, ApplicationStatusHistoryRepository statusHistoryRepository,
+                              NotificationService notificationService, ApplicationIntakeBuffer intakeBuffer,
+                              JobStatsService jobStatsService, TablePartitionService tablePartitionService,
+                              ApplicationPipelineService pipelineService,
+                              CandidateProfileRepository candidateProfileRepository,
+                              CandidateProfileService candidateProfileService, SecurityUtils securityUtils,
+                              @Value("${app.applications.status-update.max-attempts:3}") int statusUpdateMaxAttempts) {
+        this.applicationRepository = applicationRepository;
+        this.userRepository = userRepository;
+        this.jobRepository = jobRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.notificationService = notificationService;
+        this.intakeBuffer = intakeBuffer;
+        this.jobStatsService = jobStatsService;
+        this.tablePartitionService = tablePartitionService;
+        this.pipelineService = pipelineService;
+        this.candidateProfileRepository = candidateProfileRepository;
+        this.candidateProfileService = candidateProfileService;
+        this.securityUtils = securityUtils;
+        this.statusUpdateMaxAttempts = statusUpdateMaxAttempts;
+    }
+
+    /**
+     * Validates the application and hands it to the per-job intake batcher, which persists it
+     * together with other applications for the same job. The returned future completes when the
+     * batch commits, so the request thread is released while it is pending. The read-only
+     * transaction covers the lookups only and ends when the future is returned, so no connection
+     * is held while waiting either (the endpoint is excluded from open-in-view).
+     */
+    @Transactional(readOnly = true)
+    public CompletableFuture<ApplicationResponse> applyToJob(ApplicationRequest request) {
         String email = securityUtils.getCurrentUserEmail();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Check if application already exists
-        if (applicationRepository.existsByUserIdAndJobId(user.getId(), request.getJobId())) {
-            throw new RuntimeException("You have already applied for this job.");
-        }
-
         Job job = jobRepository.findById(request.getJobId())
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         CandidateProfile profile = candidateProfileRepository.findByUserId(user.getId())
                 .orElse(null);
 
-        // Proceed with application creation...
-        Application application = Application.builder()
+        LocalDateTime appliedAt = LocalDateTime.now();
+        // Mapped up front, on the request thread that loaded the entities; only the id comes later
+        ApplicationResponse response = convertToResponse(Application.builder()
                 .user(user)
                 .job(job)
                 .candidateProfile(profile)
                 .status(Application.ApplicationStatus.APPLIED)
-                .build();
+                .appliedAt(appliedAt)
+                .build());
 
-        application = applicationRepository.save(application);
-
-        // Record initial history
-        ApplicationStatusHistory history = ApplicationStatusHistory.builder()
-                .application(application)
-                .oldStatus(null)
-                .newStatus(Application.ApplicationStatus.APPLIED)
-                .updatedBy(user)
-                .build();
-        statusHistoryRepository.save(history);
-
-        // Create notification for recruiter
-        String recruiterMessage = String.format("New application received for %s from %s.", 
-                job.getTitle(), user.getEmail());
-        
-        Notification recruiterNotification = Notification.builder()
-                .user(job.getRecruiter())
-                .message(recruiterMessage)
-                .build();
-        notificationRepository.save(recruiterNotification);
-
-        return convertToResponse(application);
+        return intakeBuffer.submit(new ApplicationIntakeBuffer.Intake(job.getId(), job.getRecruiter().getId(),
+                        job.getTitle(), user.getId(), user.getEmail(), profile != null ? profile.getId() : null,
+                        appliedAt))
+                .thenApply(id -> {
+                    response.setId(id);
+                    return response;
+                });
     }
 
     public List<ApplicationResponse> getApplicationsByUser(Long userId) {
@@ -91,17 +120,49 @@ public class ApplicationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Moves an application to {@code status} with a compare-and-set UPDATE, so concurrent
+     * decisions can never record a wrong oldStatus in the history. If another recruiter changed
+     * the status in between, the transition is retried against the status re-read with a locking
+     * read (a plain read can return the transaction's stale snapshot under MySQL), up to
+     * {@code app.applications.status-update.max-attempts} times. When the caller passes
+     * {@code expectedStatus}, a mismatch is reported as a conflict instead of being retried.
+     * Every attempt is validated against the job owner's pipeline.
+     */
     @Transactional
-    public ApplicationResponse updateApplicationStatus(Long id, Application.ApplicationStatus status) {
+    public ApplicationResponse updateApplicationStatus(Long id, Application.ApplicationStatus status,
+                                                       Application.ApplicationStatus expectedStatus) {
         String email = securityUtils.getCurrentUserEmail();
         User recruiter = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        // Loaded for the response and notification only; it is never modified, so no merge or
+        // version-checked UPDATE is issued for it at flush time
         Application application = applicationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
-        
+
+        ApplicationPipeline pipeline = pipelineService.getPipeline(application.getJob().getRecruiter().getId());
+
+        // The row lock is taken as late as possible, after all reads
         Application.ApplicationStatus oldStatus = application.getStatus();
-        application.setStatus(status);
+        for (int attempt = 1; ; attempt++) {
+            if (expectedStatus != null && oldStatus != expectedStatus) {
+                throw new ConflictException("Application status was changed to " + oldStatus + " by someone else.");
+            }
+            if (!pipeline.canTransition(oldStatus, status)) {
+                throw new IllegalArgumentException("Cannot move an application from " + oldStatus + " to " + status + ".");
+            }
+            if (applicationRepository.transitionStatus(id, oldStatus, status, LocalDateTime.now()) == 1) {
+                break;
+            }
+            if (attempt >= statusUpdateMaxAttempts) {
+                throw new ConflictException("Application status is being changed concurrently. Please retry.");
+            }
+            // Locked, so the status read is the committed one and the next attempt cannot miss
+            oldStatus = applicationRepository.lockStatusById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        }
+        jobStatsService.recordTransition(application.getJob().getId(), oldStatus, status);
 
         // Record history
         ApplicationStatusHistory history = ApplicationStatusHistory.builder()
@@ -117,18 +178,102 @@ public class ApplicationService {
                 application.getJob().getTitle(), 
                 application.getJob().getCompanyName(), 
                 status.toString().toLowerCase());
-        
-        Notification notification = Notification.builder()
-                .user(application.getUser())
-                .message(message)
-                .build();
-        notificationRepository.save(notification);
+        notificationService.notify(application.getUser(), message);
 
-        return convertToResponse(applicationRepository.save(application));
+        ApplicationResponse response = convertToResponse(application);
+        response.setStatus(status);
+        return response;
+    }
+
+    /**
+     * Moves many of the current recruiter's applications to {@code status}. Each chunk of ids is
+     * read with one query and validated in memory against the compiled pipeline; the valid rows
+     * are then locked, updated and given history rows with one statement per source status.
+     * Applications whose status changed between validation and locking are reported as conflicted.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        String email = securityUtils.getCurrentUserEmail();
+        User recruiter = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        ApplicationPipeline pipeline = pipelineService.getPipeline(recruiter.getId());
+        Application.ApplicationStatus status = request.getStatus();
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        List<Long> invalid = new ArrayList<>();
+        List<Long> conflicted = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        int updated = 0;
+        LocalDateTime now = LocalDateTime.now();
+        // Stats rows are updated after all chunks in ascending job id order, the order rebuilds lock them in
+        Map<Long, Map<Application.ApplicationStatus, Integer>> movedPerJob = new TreeMap<>();
+
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            Map<Long, Object[]> rows = new HashMap<>();
+            for (Object[] row : applicationRepository.findTransitionRows(chunk)) {
+                rows.put((Long) row[0], row);
+            }
+
+            Map<Application.ApplicationStatus, List<Long>> valid = new EnumMap<>(Application.ApplicationStatus.class);
+            List<NewNotification> notifications = new ArrayList<>();
+            for (Long id : chunk) {
+                Object[] row = rows.get(id);
+                if (row == null || !recruiter.getId().equals(row[3])) {
+                    notFound.add(id);
+                    continue;
+                }
+                Application.ApplicationStatus current = (Application.ApplicationStatus) row[1];
+                if (!pipeline.canTransition(current, status)) {
+                    invalid.add(id);
+                    continue;
+                }
+                valid.computeIfAbsent(current, key -> new ArrayList<>()).add(id);
+            }
+
+            for (Map.Entry<Application.ApplicationStatus, List<Long>> group : valid.entrySet()) {
+                Application.ApplicationStatus oldStatus = group.getKey();
+                List<Long> locked = applicationRepository.lockIdsInStatus(group.getValue(), oldStatus);
+                if (locked.size() < group.getValue().size()) {
+                    List<Long> changed = new ArrayList<>(group.getValue());
+                    changed.removeAll(locked);
+                    conflicted.addAll(changed);
+                }
+                if (locked.isEmpty()) {
+                    continue;
+                }
+                updated += applicationRepository.bulkTransition(locked, oldStatus, status, now);
+                applicationRepository.insertStatusHistory(locked, oldStatus, status, recruiter.getId(), now);
+
+                for (Long id : locked) {
+                    Object[] row = rows.get(id);
+                    movedPerJob.computeIfAbsent((Long) row[2], jobId -> new EnumMap<>(Application.ApplicationStatus.class))
+                            .merge(oldStatus, 1, Integer::sum);
+                    String message = String.format("Your application for %s at %s was %s.",
+                            row[5], row[6], status.toString().toLowerCase());
+                    notifications.add(new NewNotification((Long) row[4], message));
+                }
+            }
+            notificationService.notifyAll(notifications);
+        }
+        movedPerJob.forEach((jobId, moved) -> moved.forEach((oldStatus, count) ->
+                jobStatsService.recordTransition(jobId, oldStatus, status, count)));
+
+        return BulkStatusUpdateResponse.builder()
+                .updated(updated)
+                .invalid(invalid)
+                .conflicted(conflicted)
+                .notFound(notFound)
+                .build();
     }
 
     public List<StatusHistoryResponse> getApplicationStatusHistory(Long applicationId) {
-        return statusHistoryRepository.findByApplicationIdOrderByTimestampDesc(applicationId)
+        LocalDateTime appliedAt = applicationRepository.findAppliedAtById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        // History is never older than the application; old applications may need archived partitions
+        tablePartitionService.ensureAvailable(TablePartitionService.STATUS_HISTORY, appliedAt);
+        return statusHistoryRepository.findByApplicationIdAndTimestampGreaterThanEqualOrderByTimestampDesc(
+                        applicationId, appliedAt)
                 .stream()
                 .map(history -> StatusHistoryResponse.builder()
                         .id(history.getId())
@@ -156,8 +301,8 @@ public class ApplicationService {
 
 
     private ApplicationResponse convertToResponse(Application app) {
-        // Map nested Job to JobResponse
-        JobResponse jobDto = JobResponse.builder()
+        // Map nested Job to the lean summary; the full description is served by GET /jobs/{id}
+        JobSummaryResponse jobDto = JobSummaryResponse.builder()
                 .id(app.getJob().getId())
                 .title(app.getJob().getTitle())
                 .companyName(app.getJob().getCompanyName())
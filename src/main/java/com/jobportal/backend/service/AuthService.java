@@ -1,29 +1,44 @@
 package com.jobportal.backend.service;
 
-import com.jobportal.backend.config.JwtService;
+import com.jobportal.backend.dto.AuthResponse;
 import com.jobportal.backend.dto.LoginRequest;
 import com.jobportal.backend.dto.RegisterRequest;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @Service
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
+    private final PasswordHashingService passwordHashing;
+    private final TokenService tokenService;
+    private final ExecutorService tokenIssuer;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, PasswordHashingService passwordHashing, TokenService tokenService,
+                       @Value("${app.security.token-issuer.threads:4}") int tokenIssuerThreads) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.jwtService = jwtService;
+        this.passwordHashing = passwordHashing;
+        this.tokenService = tokenService;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.tokenIssuer = Executors.newFixedThreadPool(tokenIssuerThreads, r -> {
+            Thread thread = new Thread(r, "token-issuer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    public String register(RegisterRequest request) {
+    public AuthResponse register(RegisterRequest request) {
         log.info("Attempting to register new user with email: {} and role: {}", request.getEmail(), request.getRole());
         try {
             if(userRepository.existsByEmail(request.getEmail())) {
@@ -32,27 +47,62 @@ public class AuthService {
             }
             User user = User.builder()
                     .email(request.getEmail())
-                    .password(passwordEncoder.encode(request.getPassword())) // Hashed
+                    .password(passwordHashing.encodeAndWait(request.getPassword())) // Hashed
                     .role(request.getRole())
                     .firstName(request.getFirstName())
                     .lastName(request.getLastName())
                     .build();
             userRepository.save(user);
             log.info("User registered successfully: {}", request.getEmail());
-            return jwtService.generateToken(user.getEmail());
+            return tokenService.issue(user);
         } catch (Exception e) {
             log.error("Error during registration for email {}: {}", request.getEmail(), e.getMessage(), e);
             throw e;
         }
     }
 
-    public String login(LoginRequest request) {
+    /**
+     * Verifies the password on the hashing pool and completes with a token pair, so the request
+     * thread is released while the hash is computed. Hashes made with an older algorithm or a
+     * lower cost are replaced in the background once the password is known to be correct.
+     * Tokens are issued on a separate pool: issuing writes a refresh token, and the hashing pool
+     * is sized for CPU work, not for waiting on the database.
+     */
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        String storedHash = user.getPassword();
+
+        return passwordHashing.matches(request.getPassword(), storedHash).thenApplyAsync(matches -> {
+            if (!matches) {
+                throw new RuntimeException("Invalid credentials");
+            }
+            if (passwordHashing.needsRehash(storedHash)) {
+                rehash(user.getId(), storedHash, request.getPassword());
+            }
+            return tokenService.issue(user);
+        }, tokenIssuer);
+    }
+
+    private void rehash(Long userId, String storedHash, String rawPassword) {
+        passwordHashing.encode(rawPassword)
+                .thenAccept(newHash -> {
+                    if (userRepository.replacePasswordHash(userId, storedHash, newHash, LocalDateTime.now()) > 0) {
+                        log.debug("Upgraded password hash of user {}", userId);
+                    }
+                })
+                .exceptionally(e -> {
+                    // The old hash stays valid; the upgrade is retried on the next login
+                    log.warn("Could not upgrade password hash of user {}: {}", userId, e.getMessage());
+                    return null;
+                });
+    }
 
-        if(!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        tokenIssuer.shutdown();
+        if (!tokenIssuer.awaitTermination(10, TimeUnit.SECONDS)) {
+            tokenIssuer.shutdownNow();
         }
-        return jwtService.generateToken(user.getEmail());
     }
 }
@@ -10,6 +10,7 @@ import com.jobportal.backend.repository.ChatMessageRepository;
 import com.jobportal.backend.repository.ChatRoomRepository;
 import com.jobportal.backend.repository.UserRepository;
 import com.jobportal.backend.util.SecurityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,8 +26,12 @@ public class ChatService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final TablePartitionService tablePartitionService;
     private final UserRepository userRepository;
     private final SecurityUtils securityUtils;
+    private final MeterRegistry meterRegistry;
+    private final PresenceService presenceService;
+    private final ReadReceiptCoalescer readReceiptCoalescer;
 
     @Transactional
     public ChatRoomDTO initiateChat(Long candidateId) {
@@ -64,41 +69,74 @@ public class ChatService {
         return rooms.stream().map(room -> mapToChatRoomDTO(room, user)).collect(Collectors.toList());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ChatMessageDTO> getChatHistory(Long chatRoomId) {
-        User user = getCurrentUser();
+        Long userId = getCurrentUserId();
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Chat room not found"));
 
-        if (!isUserInRoom(chatRoom, user.getId())) {
+        if (!isUserInRoom(chatRoom, userId)) {
             throw new RuntimeException("Unauthorized to view this chat history");
         }
 
-        // When user opens chat history, we can also mark messages as read
-        markAsRead(chatRoomId);
+        // Old conversations may reach into archived partitions
+        tablePartitionService.ensureAvailable(TablePartitionService.CHAT_MESSAGES, chatRoom.getCreatedAt());
+        List<ChatMessage> messages = chatMessageRepository.findByChatRoomAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+                chatRoom, chatRoom.getCreatedAt());
 
-        return chatMessageRepository.findByChatRoomOrderByCreatedAtAsc(chatRoom)
-                .stream().map(this::mapToChatMessageDTO).collect(Collectors.toList());
+        // Opening the history reads everything in it
+        if (!messages.isEmpty()) {
+            markRead(chatRoom, userId, messages.get(messages.size() - 1).getId());
+        }
+        long counterpartLastRead = lastReadMessageId(chatRoom, counterpartId(chatRoom, userId));
+        return messages.stream()
+                .map(message -> mapToChatMessageDTO(message,
+                        message.getSender().getId().equals(userId) ? counterpartLastRead : Long.MAX_VALUE))
+                .collect(Collectors.toList());
     }
 
     private User getCurrentUser() {
         String email = securityUtils.getCurrentUserEmail();
-        log.info("Current user: {}", email);
+        log.debug("Current user: {}", email);
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
-    @Transactional
+    // The authenticated principal carries the id, so the user row is only loaded as a fallback
+    private Long getCurrentUserId() {
+        Long userId = securityUtils.getCurrentUserId();
+        return userId != null ? userId : getCurrentUser().getId();
+    }
+
+    @Transactional(readOnly = true)
     public void markAsRead(Long chatRoomId) {
+        Long userId = getCurrentUserId();
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Chat room not found"));
-        User user = getCurrentUser();
 
-        if (!isUserInRoom(chatRoom, user.getId())) {
+        if (!isUserInRoom(chatRoom, userId)) {
             throw new RuntimeException("Unauthorized to mark messages as read");
         }
 
-        chatMessageRepository.markMessagesAsRead(chatRoom, user);
+        markRead(chatRoom, userId, chatMessageRepository.findLatestIdFromOthers(chatRoom, userId,
+                chatRoom.getCreatedAt()));
+    }
+
+    // Buffers the new watermark unless it is already covered; the write happens on the next flush
+    private void markRead(ChatRoom chatRoom, Long userId, Long messageId) {
+        if (messageId != null && messageId > lastReadMessageId(chatRoom, userId)) {
+            readReceiptCoalescer.markRead(chatRoom.getId(), userId,
+                    chatRoom.getRecruiter().getId().equals(userId), messageId);
+        }
+    }
+
+    // The stored watermark, or the buffered one when that is newer; 0 before the first read
+    private long lastReadMessageId(ChatRoom chatRoom, Long userId) {
+        Long stored = chatRoom.getRecruiter().getId().equals(userId)
+                ? chatRoom.getRecruiterLastReadMessageId()
+                : chatRoom.getCandidateLastReadMessageId();
+        Long pending = readReceiptCoalescer.pendingLastRead(chatRoom.getId(), userId);
+        return Math.max(stored != null ? stored : 0L, pending != null ? pending : 0L);
     }
 
     @Transactional
@@ -118,8 +156,8 @@ public class ChatService {
 
         // Check if candidate is replying but recruiter hasn't sent a message yet
         if (sender.getRole() == User.Role.CANDIDATE) {
-            long recruiterMessageCount = chatMessageRepository.countByChatRoomAndSenderRole(chatRoom,
-                    User.Role.RECRUITER);
+            long recruiterMessageCount = chatMessageRepository.countByChatRoomAndSenderRoleAndCreatedAtGreaterThanEqual(chatRoom,
+                    User.Role.RECRUITER, chatRoom.getCreatedAt());
             if (recruiterMessageCount == 0) {
                 throw new RuntimeException("Candidate cannot reply until recruiter sends the first message");
             }
@@ -131,7 +169,9 @@ public class ChatService {
                 .content(messageDTO.getContent())
                 .build();
 
-        return mapToChatMessageDTO(chatMessageRepository.save(chatMessage));
+        ChatMessage saved = chatMessageRepository.save(chatMessage);
+        meterRegistry.counter("chat.messages.persisted").increment();
+        return mapToChatMessageDTO(saved, 0L);
     }
 
     public boolean isUserInRoom(Long chatRoomId, Long userId) {
@@ -146,17 +186,28 @@ public class ChatService {
                 chatRoom.getCandidate().getId().equals(userId);
     }
 
+    private static Long counterpartId(ChatRoom chatRoom, Long userId) {
+        return chatRoom.getRecruiter().getId().equals(userId)
+                ? chatRoom.getCandidate().getId()
+                : chatRoom.getRecruiter().getId();
+    }
+
     private ChatRoomDTO mapToChatRoomDTO(ChatRoom chatRoom, User currentUser) {
+        Long counterpartId = counterpartId(chatRoom, currentUser.getId());
         ChatRoomDTO dto = ChatRoomDTO.builder()
                 .id(chatRoom.getId())
                 .recruiterId(chatRoom.getRecruiter().getId())
                 .recruiterName(chatRoom.getRecruiter().getFirstName() + " " + chatRoom.getRecruiter().getLastName())
                 .candidateId(chatRoom.getCandidate().getId())
                 .candidateName(chatRoom.getCandidate().getFirstName() + " " + chatRoom.getCandidate().getLastName())
-                .unreadCount(chatMessageRepository.countByChatRoomAndSenderNotAndIsReadFalse(chatRoom, currentUser))
+                .unreadCount(chatMessageRepository.countByChatRoomAndSenderNotAndIdGreaterThanAndCreatedAtGreaterThanEqual(
+                        chatRoom, currentUser, lastReadMessageId(chatRoom, currentUser.getId()), chatRoom.getCreatedAt()))
+                .counterpartLastReadMessageId(lastReadMessageId(chatRoom, counterpartId))
+                .counterpartOnline(presenceService.isOnline(counterpartId))
                 .build();
 
-        chatMessageRepository.findFirstByChatRoomOrderByCreatedAtDesc(chatRoom).ifPresent(lastMsg -> {
+        chatMessageRepository.findFirstByChatRoomAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(chatRoom,
+                chatRoom.getCreatedAt()).ifPresent(lastMsg -> {
             dto.setLastMessage(lastMsg.getContent());
             dto.setLastMessageTimestamp(lastMsg.getCreatedAt());
         });
@@ -164,14 +215,15 @@ public class ChatService {
         return dto;
     }
 
-    private ChatMessageDTO mapToChatMessageDTO(ChatMessage message) {
+    // Read once the recipient's watermark has reached the message
+    private ChatMessageDTO mapToChatMessageDTO(ChatMessage message, long recipientLastRead) {
         return ChatMessageDTO.builder()
                 .id(message.getId())
                 .chatRoomId(message.getChatRoom().getId())
                 .senderId(message.getSender().getId())
                 .content(message.getContent())
                 .timestamp(message.getCreatedAt())
-                .isRead(message.isRead())
+                .isRead(message.getId() <= recipientLastRead)
                 .build();
     }
 }
@@ -0,0 +1,101 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Replays the original result for requests retried with the same Idempotency-Key. A retry that
+ * arrives while the first attempt is still running waits for it instead of executing again.
+ * Only successful results are kept, for a limited time; failed attempts can be retried.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public IdempotencyCache(@Value("${app.idempotency.ttl-minutes:10}") long ttlMinutes,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param key         caller-scoped idempotency key (e.g. user plus header value)
+     * @param fingerprint identifies the request payload; reusing a key for a different payload is rejected
+     */
+    public <T> T execute(String key, String fingerprint, Supplier<T> action) {
+        try {
+            return executeAsync(key, fingerprint, () -> CompletableFuture.completedFuture(action.get())).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Like {@link #execute}, for actions that complete later. A retry receives the future of the
+     * attempt in progress, so it does not hold a thread while waiting for it either.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, String fingerprint, Supplier<CompletableFuture<T>> action) {
+        Entry created = new Entry(fingerprint, System.currentTimeMillis() + ttlMillis);
+        Entry existing = entries.size() < maxEntries ? entries.putIfAbsent(key, created) : entries.get(key);
+
+        if (existing != null) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new ConflictException("Idempotency-Key was already used for a different request");
+            }
+            return existing.result.thenApply(result -> (T) result);
+        }
+
+        boolean tracked = entries.get(key) == created;
+        CompletableFuture<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            fail(key, created, tracked, e);
+            throw e;
+        }
+        return result.whenComplete((value, error) -> {
+            if (error == null) {
+                created.result.complete(value);
+            } else {
+                fail(key, created, tracked, error);
+            }
+        });
+    }
+
+    private void fail(String key, Entry entry, boolean tracked, Throwable error) {
+        if (tracked) {
+            entries.remove(key, entry);
+        }
+        entry.result.completeExceptionally(error);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt < now && entry.result.isDone());
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobportal.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches job listing totals per filter combination so paging does not run a COUNT(*) on every
+ * request. Stale entries are still served while a single background thread recomputes them;
+ * only the very first request for a filter combination counts synchronously. When the cache is
+ * full, entries not read within the TTL are dropped first, then the least recently read one.
+ */
+@Slf4j
+@Component
+public class JobCountCache {
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(100), r -> {
+                Thread thread = new Thread(r, "job-count-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public JobCountCache(@Value("${app.jobs.count-cache.ttl-seconds:60}") long ttlSeconds,
+                         @Value("${app.jobs.count-cache.max-entries:1000}") int maxEntries) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.maxEntries = maxEntries;
+    }
+
+    public long getCount(String key, LongSupplier counter) {
+        CachedCount cached = counts.get(key);
+        long now = System.currentTimeMillis();
+        if (cached == null) {
+            long value = counter.getAsLong();
+            if (counts.size() >= maxEntries) {
+                evict(now);
+            }
+            counts.put(key, new CachedCount(value, now));
+            return value;
+        }
+
+        cached.lastReadAt = now;
+        if (now - cached.computedAt > ttlMillis
+                && cached.refreshing.compareAndSet(false, true)) {
+            try {
+                refresher.execute(() -> refresh(key, counter));
+            } catch (RejectedExecutionException e) {
+                cached.refreshing.set(false);
+            }
+        }
+        return cached.value;
+    }
+
+    /**
+     * Marks every cached total as stale after the catalog changed; values are refreshed in the
+     * background on their next read.
+     */
+    public void markStale() {
+        counts.replaceAll((key, cached) -> cached.refreshing.get()
+                ? cached
+                : cached.markedStale());
+    }
+
+    // Linear scan, only on a miss while full; cheap at the configured sizes
+    private void evict(long now) {
+        counts.values().removeIf(cached -> now - cached.lastReadAt > ttlMillis);
+        while (counts.size() >= maxEntries && !counts.isEmpty()) {
+            counts.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastReadAt))
+                    .ifPresent(oldest -> counts.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private void refresh(String key, LongSupplier counter) {
+        try {
+            long value = counter.getAsLong();
+            // Only replaces the entry if it was not evicted meanwhile
+            counts.computeIfPresent(key, (k, stale) -> new CachedCount(value, System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to refresh job count for {}: {}", key, e.getMessage());
+            counts.remove(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class CachedCount {
+        private final long value;
+        private final long computedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private volatile long lastReadAt;
+
+        private CachedCount(long value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+            this.lastReadAt = computedAt;
+        }
+
+        // Due for a refresh, but as recently read as before
+        private CachedCount markedStale() {
+            CachedCount stale = new CachedCount(value, 0L);
+            stale.lastReadAt = lastReadAt;
+            return stale;
+        }
+    }
+}
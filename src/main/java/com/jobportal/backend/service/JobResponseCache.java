@@ -0,0 +1,185 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Server-side cache for the public job endpoints. Entries are tagged with the catalog version,
+ * which createJob/deleteJob bump after commit. Responses carry a weak ETag derived from that
+ * version so browsers and CDNs can revalidate with 304. After a bump, one request recomputes a
+ * stale entry while concurrent readers keep getting the stale copy for a short grace period.
+ * <p>
+ * The same entry is served as JSON or CBOR depending on the Accept header, so the ETag names the
+ * representation and responses vary on Accept and Accept-Encoding for shared caches.
+ */
+@Component
+public class JobResponseCache {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    // Distinguishes ETags across restarts, when the version counter starts over
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong invalidatedAt = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final CacheControl cacheControl;
+    private final long staleGraceMillis;
+    private final int maxEntries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleServed;
+
+    public JobResponseCache(MeterRegistry meterRegistry,
+                            @Value("${app.jobs.response-cache.max-age-seconds:30}") long maxAgeSeconds,
+                            @Value("${app.jobs.response-cache.stale-grace-millis:5000}") long staleGraceMillis,
+                            @Value("${app.jobs.response-cache.max-entries:2000}") int maxEntries) {
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+        this.staleGraceMillis = staleGraceMillis;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("jobs.response.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jobs.response.cache").tag("result", "miss").register(meterRegistry);
+        this.staleServed = Counter.builder("jobs.response.cache").tag("result", "stale").register(meterRegistry);
+        meterRegistry.gauge("jobs.response.cache.size", entries, Map::size);
+    }
+
+    public static String listKey(int page, int size, String sortBy, String search, String jobType,
+                                 String experienceLevel) {
+        return "list:" + page + ":" + size + ":" + sortBy + ":"
+                + StringUtils.lowerCase(StringUtils.normalizeSpace(search)) + ":"
+                + StringUtils.trimToNull(jobType) + ":" + StringUtils.trimToNull(experienceLevel);
+    }
+
+    public static String jobKey(Long id) {
+        return "job:" + id;
+    }
+
+    /**
+     * Picks the representation message conversion will produce for the Accept header: CBOR when
+     * it is preferred over JSON, JSON otherwise.
+     */
+    public static String representation(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Malformed or oversized header; content negotiation rejects or falls back to JSON
+            return "json";
+        }
+        for (MediaType type : accepted) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "json";
+            }
+            if (type.isCompatibleWith(CBOR)) {
+                return "cbor";
+            }
+        }
+        return "json";
+    }
+
+    public <T> ResponseEntity<T> respond(String key, String representation, Supplier<T> loader) {
+        Entry entry = entries.get(key);
+        long version = catalogVersion.get();
+
+        if (entry != null && entry.version == version) {
+            hits.increment();
+            return toResponse(entry, representation);
+        }
+
+        boolean refreshing = entry != null && entry.refreshing.compareAndSet(false, true);
+        if (entry != null && !refreshing && System.currentTimeMillis() - invalidatedAt.get() < staleGraceMillis) {
+            // Another request is already recomputing this key
+            staleServed.increment();
+            return toResponse(entry, representation);
+        }
+
+        misses.increment();
+        try {
+            T body = loader.get();
+            Entry fresh = new Entry(body, version, key.hashCode());
+            if (entries.size() < maxEntries || entries.containsKey(key) || evictStale(version)) {
+                entries.put(key, fresh);
+            }
+            return toResponse(fresh, representation);
+        } finally {
+            if (refreshing) {
+                entry.refreshing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Bumps the catalog version once the surrounding transaction commits, so a concurrent reader
+     * cannot cache pre-commit data under the new version.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion();
+                }
+            });
+        } else {
+            bumpVersion();
+        }
+    }
+
+    private void bumpVersion() {
+        invalidatedAt.set(System.currentTimeMillis());
+        catalogVersion.incrementAndGet();
+    }
+
+    private boolean evictStale(long version) {
+        entries.values().removeIf(e -> e.version != version);
+        return entries.size() < maxEntries;
+    }
+
+    private String etag(Entry entry, String representation) {
+        return "W/\"" + instanceId + "-" + entry.version + "-" + Integer.toHexString(entry.keyHash)
+                + "-" + representation + "\"";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> toResponse(Entry entry, String representation) {
+        // ResponseEntity handling answers If-None-Match with 304 based on the ETag header
+        return (ResponseEntity<T>) ResponseEntity.ok()
+                .eTag(etag(entry, representation))
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(entry.body);
+    }
+
+    private static final class Entry {
+        private final Object body;
+        private final long version;
+        private final int keyHash;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(Object body, long version, int keyHash) {
+            this.body = body;
+            this.version = version;
+            this.keyHash = keyHash;
+        }
+    }
+}
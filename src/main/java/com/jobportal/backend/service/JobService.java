@@ -1,23 +1,40 @@
 package com.jobportal.backend.service;
 
+import com.jobportal.backend.config.FullTextSearchInitializer;
 import com.jobportal.backend.dto.JobRequest;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobScrollResponse;
+import com.jobportal.backend.dto.JobStatsResponse;
+import com.jobportal.backend.dto.JobSummaryResponse;
 import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.Job;
 import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.JobSpecification;
 import com.jobportal.backend.repository.UserRepository;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,6 +43,15 @@ public class JobService {
         private final JobRepository jobRepository;
         private final UserRepository userRepository;
         private final SecurityUtils securityUtils;
+        private final FullTextSearchInitializer fullTextSearch;
+        private final JobCountCache jobCountCache;
+        private final JobResponseCache jobResponseCache;
+        private final JobStatsService jobStatsService;
+
+        private static final int MAX_PAGE_SIZE = 100;
+        private static final int EXCERPT_LENGTH = 200;
+        private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "title", "companyName");
+        private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
 
         @Transactional
         public JobResponse createJob(JobRequest request) {
@@ -45,21 +71,65 @@ public class JobService {
                                 .experienceLevel(request.getExperienceLevel())
                                 .recruiter(recruiter)
                                 .build();
-                return convertToResponse(jobRepository.save(job));
+                Job saved = jobRepository.save(job);
+                jobStatsService.initialize(saved.getId());
+                JobResponse response = convertToResponse(saved);
+                jobCountCache.markStale();
+                jobResponseCache.invalidate();
+                return response;
+        }
+
+        public Page<JobSummaryResponse> getAllJobs(int page, int size, String sortBy, String search, String jobType,
+                        String experienceLevel) {
+                if (log.isDebugEnabled()) {
+                        log.debug("Fetching jobs with filters - search: {}, jobType: {}, experienceLevel: {}, page: {}, size: {}",
+                                        search, jobType, experienceLevel, page, size);
+                }
+                boolean fullText = fullTextSearch.isFullTextEnabled();
+                boolean ranked = JobSpecification.isRanked(search, fullText);
+
+                // Ranked searches are ordered by ts_rank (then createdAt and id) inside the specification
+                Sort sort = ranked ? Sort.unsorted() : sortFor(sortBy);
+                Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort);
+
+                Specification<Job> spec = JobSpecification.withFilters(search, jobType, experienceLevel, fullText);
+
+                // Offset positions are exclusive ("after n"), so page 0 starts from the initial position
+                ScrollPosition position = pageable.getOffset() == 0
+                                ? ScrollPosition.offset()
+                                : ScrollPosition.offset(pageable.getOffset() - 1);
+                Window<Job> window = jobRepository.findBy(spec, query -> query.sortBy(sort)
+                                .limit(pageable.getPageSize())
+                                .scroll(position));
+
+                // The total comes from the per-filter cache instead of a COUNT(*) per request
+                long total = jobCountCache.getCount(countKey(search, jobType, experienceLevel),
+                                () -> jobRepository.count(spec));
+
+                List<JobSummaryResponse> content = window.getContent().stream().map(this::convertToSummary).toList();
+                return new PageImpl<>(content, pageable, total);
         }
 
-        public Page<JobResponse> getAllJobs(int page, int size, String sortBy, String search, String jobType,
+        public JobScrollResponse scrollJobs(String cursor, int size, String search, String jobType,
                         String experienceLevel) {
-                log.info("Fetching jobs with filters - search: {}, jobType: {}, experienceLevel: {}, page: {}, size: {}",
-                                search, jobType, experienceLevel, page, size);
-                Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
+                Specification<Job> spec = JobSpecification.withFilters(search, jobType, experienceLevel,
+                                fullTextSearch.isFullTextEnabled());
+                KeysetScrollPosition position = decodeCursor(cursor);
 
-                org.springframework.data.jpa.domain.Specification<Job> spec = com.jobportal.backend.repository.JobSpecification
-                                .withFilters(search, jobType, experienceLevel);
+                Window<Job> window = jobRepository.findBy(spec, query -> query.sortBy(KEYSET_SORT)
+                                .limit(Math.min(size, MAX_PAGE_SIZE))
+                                .scroll(position));
 
-                Page<Job> jobPage = jobRepository.findAll(spec, pageable);
+                String nextCursor = null;
+                if (window.hasNext() && !window.isEmpty()) {
+                        nextCursor = encodeCursor((KeysetScrollPosition) window.positionAt(window.size() - 1));
+                }
 
-                return jobPage.map(this::convertToResponse);
+                return JobScrollResponse.builder()
+                                .content(window.getContent().stream().map(this::convertToSummary).toList())
+                                .nextCursor(nextCursor)
+                                .hasNext(window.hasNext())
+                                .build();
         }
 
         public JobResponse getJobById(Long id) {
@@ -76,16 +146,70 @@ public class JobService {
 
                 // This will trigger the @SQLDelete update statement
                 jobRepository.delete(job);
+                jobCountCache.markStale();
+                jobResponseCache.invalidate();
         }
 
-        public List<JobResponse> getJobsByRecruiter(String email) {
+        public List<JobSummaryResponse> getJobsByRecruiter(String email) {
                 User recruiter = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-                return jobRepository.findByRecruiter(recruiter).stream()
-                                .map(this::convertToResponse)
+                List<Job> jobs = jobRepository.findByRecruiter(recruiter);
+                // One lookup for all counters instead of loading every application
+                Map<Long, JobStatsResponse> stats = jobStatsService.getStats(jobs.stream().map(Job::getId).toList());
+                return jobs.stream()
+                                .map(job -> {
+                                        JobSummaryResponse summary = convertToSummary(job);
+                                        summary.setStats(stats.get(job.getId()));
+                                        return summary;
+                                })
                                 .toList();
         }
 
+        public JobStatsResponse getJobStats(Long id, String email) {
+                User recruiter = userRepository.findByEmail(email)
+                                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+                Job job = jobRepository.findById(id)
+                                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+                // Recruiters only see statistics for their own postings
+                if (!job.getRecruiter().getId().equals(recruiter.getId())) {
+                        throw new ResourceNotFoundException("Job not found with id: " + id);
+                }
+                return jobStatsService.getStats(id);
+        }
+
+        private Sort sortFor(String sortBy) {
+                // Only indexed columns can be sorted on, so user input cannot force a full table sort
+                if (!SORTABLE_FIELDS.contains(sortBy)) {
+                        throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+                }
+                return Sort.by(Sort.Direction.DESC, sortBy, "id");
+        }
+
+        private String countKey(String search, String jobType, String experienceLevel) {
+                return StringUtils.lowerCase(StringUtils.normalizeSpace(search)) + "|" + jobType + "|" + experienceLevel;
+        }
+
+        private String encodeCursor(KeysetScrollPosition position) {
+                String raw = position.getKeys().get("createdAt") + "|" + position.getKeys().get("id");
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private KeysetScrollPosition decodeCursor(String cursor) {
+                if (cursor == null || cursor.isBlank()) {
+                        return ScrollPosition.keyset();
+                }
+                try {
+                        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        String[] parts = raw.split("\\|", 2);
+                        Map<String, Object> keys = new LinkedHashMap<>();
+                        keys.put("createdAt", LocalDateTime.parse(parts[0]));
+                        keys.put("id", Long.parseLong(parts[1]));
+                        return ScrollPosition.forward(keys);
+                } catch (RuntimeException e) {
+                        throw new IllegalArgumentException("Invalid cursor");
+                }
+        }
+
         private JobResponse convertToResponse(Job job) {
                 return JobResponse.builder()
                                 .id(job.getId())
@@ -99,4 +223,25 @@ public class JobService {
                                 .createdAt(job.getCreatedAt())
                                 .build();
         }
+
+        private JobSummaryResponse convertToSummary(Job job) {
+                return JobSummaryResponse.builder()
+                                .id(job.getId())
+                                .title(job.getTitle())
+                                .descriptionExcerpt(excerpt(job.getDescription()))
+                                .companyName(job.getCompanyName())
+                                .location(job.getLocation())
+                                .salaryRange(job.getSalaryRange())
+                                .jobType(job.getJobType())
+                                .experienceLevel(job.getExperienceLevel())
+                                .createdAt(job.getCreatedAt())
+                                .build();
+        }
+
+        private String excerpt(String description) {
+                if (description == null) {
+                        return null;
+                }
+                return StringUtils.abbreviate(StringUtils.normalizeSpace(description), "…", EXCERPT_LENGTH);
+        }
 }
\ No newline at end of file
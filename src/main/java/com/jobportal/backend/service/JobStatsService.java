@@ -0,0 +1,205 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.JobStatsResponse;
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import com.jobportal.backend.model.JobStats;
+import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.JobStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@link JobStats}. The record methods must run inside the transaction that changes
+ * the applications, so counters and rows commit or roll back together.
+ */
+@Slf4j
+@Service
+public class JobStatsService {
+    private static final int APPLIED_COUNTER = 0;
+    private static final int SHORTLISTED_COUNTER = 1;
+    private static final int REJECTED_COUNTER = 2;
+    private static final int IN_PROGRESS_COUNTER = 3;
+    private static final int HIRED_COUNTER = 4;
+    private static final int COUNTERS = 5;
+    // Jobs recounted per transaction: one grouped query and one lock statement per chunk
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final JobStatsRepository jobStatsRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobStatsService(JobStatsRepository jobStatsRepository, ApplicationRepository applicationRepository,
+                           JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        this.jobStatsRepository = jobStatsRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The count must see increments committed while it waited for the row locks, also on MySQL
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initialize(Long jobId) {
+        jobStatsRepository.save(JobStats.builder().jobId(jobId).build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApplications(Long jobId, int count, LocalDateTime lastAppliedAt) {
+        if (count > 0 && jobStatsRepository.addApplications(jobId, count, lastAppliedAt) == 0) {
+            // Job created before stats existed; the applications are already flushed, so count them
+            rebuildJobs(List.of(jobId));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        recordTransition(jobId, from, to, 1);
+    }
+
+    /**
+     * Records {@code count} applications of the job moving from one status to another, as done
+     * by bulk moves.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long jobId, ApplicationStatus from, ApplicationStatus to, int count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        long[] deltas = new long[COUNTERS];
+        deltas[counter(to)] += count;
+        deltas[counter(from)] -= count;
+        if (jobStatsRepository.addDeltas(jobId, deltas[APPLIED_COUNTER], deltas[SHORTLISTED_COUNTER],
+                deltas[REJECTED_COUNTER], deltas[IN_PROGRESS_COUNTER], deltas[HIRED_COUNTER]) == 0) {
+            rebuildJobs(List.of(jobId));
+        }
+    }
+
+    public JobStatsResponse getStats(Long jobId) {
+        return jobStatsRepository.findById(jobId)
+                .map(this::convertToResponse)
+                .orElseGet(() -> convertToResponse(JobStats.builder().jobId(jobId).build()));
+    }
+
+    /**
+     * Returns stats for every requested job; jobs without a stats row report zero applicants.
+     */
+    public Map<Long, JobStatsResponse> getStats(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, JobStatsResponse> stats = jobStatsRepository.findByJobIdIn(jobIds).stream()
+                .collect(Collectors.toMap(JobStats::getJobId, this::convertToResponse));
+        for (Long jobId : jobIds) {
+            stats.computeIfAbsent(jobId, id -> convertToResponse(JobStats.builder().jobId(id).build()));
+        }
+        return stats;
+    }
+
+    /**
+     * Recomputes every job's counters from the applications table, including jobs without
+     * applications. Meant as an operator command (POST /jobs/stats/rebuild) for repairing drift.
+     * Jobs are recounted in chunks, each in its own short transaction with one grouped query
+     * under the stats row locks, so concurrent increments are neither lost nor counted twice.
+     */
+    public int rebuild() {
+        int rebuilt = rebuild(jobRepository.findAllIds());
+        log.info("Rebuilt applicant statistics for {} jobs", rebuilt);
+        return rebuilt;
+    }
+
+    // Backfills jobs without a stats row, e.g. the first time the application starts with this feature
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        try {
+            List<Long> jobIds = jobStatsRepository.findJobIdsWithoutStats();
+            if (!jobIds.isEmpty()) {
+                log.info("Backfilled applicant statistics for {} jobs", rebuild(jobIds));
+            }
+        } catch (Exception e) {
+            log.warn("Could not backfill applicant statistics: {}", e.getMessage());
+        }
+    }
+
+    private int rebuild(List<Long> jobIds) {
+        for (int from = 0; from < jobIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Long> chunk = jobIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, jobIds.size()));
+            transactionTemplate.executeWithoutResult(status -> rebuildJobs(chunk));
+        }
+        return jobIds.size();
+    }
+
+    // Locks (or creates) the rows before counting, so the count sees every increment already applied
+    private void rebuildJobs(List<Long> jobIds) {
+        jobStatsRepository.lockOrCreate(jobIds);
+        Map<Long, JobStats> stats = new TreeMap<>();
+        for (Long jobId : jobIds) {
+            stats.put(jobId, JobStats.builder().jobId(jobId).build());
+        }
+        aggregate(stats, applicationRepository.countByJobAndStatus(jobIds));
+        stats.values().forEach(jobStats -> jobStatsRepository.overwrite(jobStats.getJobId(),
+                jobStats.getAppliedCount(), jobStats.getShortlistedCount(), jobStats.getRejectedCount(),
+                jobStats.getInProgressCount(), jobStats.getHiredCount(), jobStats.getLastAppliedAt()));
+    }
+
+    private void aggregate(Map<Long, JobStats> stats, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            JobStats jobStats = stats.get((Long) row[0]);
+            ApplicationStatus status = (ApplicationStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+            LocalDateTime lastAppliedAt = (LocalDateTime) row[3];
+
+            switch (counter(status)) {
+                case APPLIED_COUNTER -> jobStats.setAppliedCount(count);
+                case SHORTLISTED_COUNTER -> jobStats.setShortlistedCount(count);
+                case REJECTED_COUNTER -> jobStats.setRejectedCount(count);
+                case IN_PROGRESS_COUNTER -> jobStats.setInProgressCount(jobStats.getInProgressCount() + count);
+                default -> jobStats.setHiredCount(count);
+            }
+            if (lastAppliedAt != null && (jobStats.getLastAppliedAt() == null
+                    || lastAppliedAt.isAfter(jobStats.getLastAppliedAt()))) {
+                jobStats.setLastAppliedAt(lastAppliedAt);
+            }
+        }
+    }
+
+    // Counter slot of a status; screening, interview and offer share the in-progress counter
+    private static int counter(ApplicationStatus status) {
+        return switch (status) {
+            case APPLIED -> APPLIED_COUNTER;
+            case SHORTLISTED -> SHORTLISTED_COUNTER;
+            case REJECTED -> REJECTED_COUNTER;
+            case SCREENING, INTERVIEW, OFFER -> IN_PROGRESS_COUNTER;
+            case HIRED -> HIRED_COUNTER;
+        };
+    }
+
+    private JobStatsResponse convertToResponse(JobStats stats) {
+        return JobStatsResponse.builder()
+                .jobId(stats.getJobId())
+                .appliedCount(stats.getAppliedCount())
+                .shortlistedCount(stats.getShortlistedCount())
+                .rejectedCount(stats.getRejectedCount())
+                .inProgressCount(stats.getInProgressCount())
+                .hiredCount(stats.getHiredCount())
+                .totalApplicants(stats.getAppliedCount() + stats.getShortlistedCount() + stats.getRejectedCount()
+                        + stats.getInProgressCount() + stats.getHiredCount())
+                .lastAppliedAt(stats.getLastAppliedAt())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobportal.backend.service;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * Mergeable latency distribution in minutes, backed by an HdrHistogram. Rollup rows store the
+ * compressed form, so percentiles over any range are computed by merging stored sketches.
+ */
+public final class LatencySketch {
+
+    private static final long MAX_MINUTES = Duration.ofDays(366).toMinutes();
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Histogram histogram;
+
+    public LatencySketch() {
+        this.histogram = new Histogram(MAX_MINUTES, SIGNIFICANT_DIGITS);
+    }
+
+    private LatencySketch(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public static LatencySketch decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new LatencySketch();
+        }
+        try {
+            return new LatencySketch(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), MAX_MINUTES));
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt latency sketch", e);
+        }
+    }
+
+    public void record(Duration latency) {
+        histogram.recordValue(Math.max(0, Math.min(latency.toMinutes(), MAX_MINUTES)));
+    }
+
+    public LatencySketch merge(LatencySketch other) {
+        histogram.add(other.histogram);
+        return this;
+    }
+
+    public long count() {
+        return histogram.getTotalCount();
+    }
+
+    public long percentileMinutes(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    public byte[] encode() {
+        if (histogram.getTotalCount() == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+}
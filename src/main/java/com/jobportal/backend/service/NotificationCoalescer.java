@@ -0,0 +1,80 @@
+package com.jobportal.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers "new application" events per recruiter and job and hands them to NotificationService
+ * once per window, so a popular posting produces one row update and one STOMP event per window
+ * instead of one per application. Pending events live in memory only; the applications
+ * themselves are already committed when an event is buffered.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Records {@code count} applications for the recruiter's next flush, after the surrounding
+     * transaction commits so rolled back applications are never announced.
+     */
+    public void applicationsReceived(Long recruiterId, Long jobId, String jobTitle, String lastApplicantEmail,
+                                     int count) {
+        Runnable enqueue = () -> pending.compute(new Key(recruiterId, jobId), (key, current) -> current == null
+                ? new Pending(jobTitle, lastApplicantEmail, count)
+                : new Pending(jobTitle, lastApplicantEmail, current.count + count));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue.run();
+                }
+            });
+        } else {
+            enqueue.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.coalesce-window-ms:10000}")
+    public void flush() {
+        for (Key key : pending.keySet()) {
+            Pending batch = pending.remove(key);
+            if (batch == null) {
+                continue;
+            }
+            try {
+                notificationService.recordApplications(key.recruiterId, key.jobId, batch.jobTitle,
+                        batch.lastApplicantEmail, batch.count);
+            } catch (Exception e) {
+                // Merged back so the count is retried with the next window instead of lost
+                pending.merge(key, batch, (current, failed) ->
+                        new Pending(current.jobTitle, current.lastApplicantEmail, current.count + failed.count));
+                log.warn("Failed to flush {} application notifications for job {}: {}",
+                        batch.count, key.jobId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record Key(Long recruiterId, Long jobId) {
+    }
+
+    private record Pending(String jobTitle, String lastApplicantEmail, int count) {
+    }
+}
@@ -1,56 +1,333 @@
 package com.jobportal.backend.service;
 
+import com.jobportal.backend.dto.NotificationEvent;
+import com.jobportal.backend.dto.NotificationFeedResponse;
 import com.jobportal.backend.dto.NotificationResponse;
 import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.Notification;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.NotificationRepository;
+import com.jobportal.backend.repository.NotificationRepositoryCustom.NewNotification;
 import com.jobportal.backend.repository.UserRepository;
 import com.jobportal.backend.util.SecurityUtils;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final int RETENTION_BATCH_SIZE = 1000;
+    private static final int MAX_FEED_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final SecurityUtils securityUtils;
+    private final UnreadNotificationCounter unreadCounter;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long retentionDays;
+    private final long aggregateWindowMinutes;
 
-    public List<NotificationResponse> getMyNotifications() {
-        String email = securityUtils.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository,
+                               SecurityUtils securityUtils, UnreadNotificationCounter unreadCounter,
+                               SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+                               @Value("${app.notifications.retention-days:90}") long retentionDays,
+                               @Value("${app.notifications.aggregate-window-minutes:60}") long aggregateWindowMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.securityUtils = securityUtils;
+        this.unreadCounter = unreadCounter;
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retentionDays = retentionDays;
+        this.aggregateWindowMinutes = aggregateWindowMinutes;
+    }
 
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
+    /**
+     * Returns one page of the current user's feed, newest first, continuing below
+     * {@code beforeId} when given. One extra row is read to tell whether another page follows.
+     */
+    public NotificationFeedResponse getMyNotifications(Long beforeId, int size) {
+        Long userId = getCurrentUserId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Notification> notifications = beforeId == null
+                ? notificationRepository.findByUserIdOrderByIdDesc(userId, limit)
+                : notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, beforeId, limit);
+        boolean hasNext = notifications.size() > pageSize;
+        List<NotificationResponse> content = notifications.stream()
+                .limit(pageSize)
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
+        return NotificationFeedResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Stores a notification for the recipient. Once the transaction commits, the recipient's
+     * cached unread count is incremented and the notification is pushed over STOMP.
+     */
+    @Transactional
+    public Notification notify(User recipient, String message) {
+        return create(Notification.builder()
+                .user(recipient)
+                .message(message)
+                .build());
+    }
+
+    /**
+     * Stores one notification per entry with a single batched insert, for bulk operations. Once
+     * the transaction commits, each recipient's unread count is incremented once and the
+     * notifications are pushed as for {@link #notify}.
+     */
+    @Transactional
+    public void notifyAll(List<NewNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationRepository.insertAll(notifications, now);
+        meterRegistry.counter("notifications.created", "type", Notification.NotificationType.GENERAL.name())
+                .increment(ids.size());
+
+        Map<Long, List<NotificationResponse>> byRecipient = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            NewNotification notification = notifications.get(i);
+            byRecipient.computeIfAbsent(notification.userId(), userId -> new ArrayList<>())
+                    .add(NotificationResponse.builder()
+                            .id(ids.get(i))
+                            .message(notification.message())
+                            .aggregateCount(1)
+                            .createdAt(now)
+                            .build());
+        }
+        afterCommit(() -> byRecipient.forEach((userId, responses) -> {
+            OptionalInt unread = unreadCounter.add(userId, responses.size());
+            responses.forEach(response -> pushNotification(userId, response, unread));
+        }));
+    }
+
+    /**
+     * Merges a batch of applications from NotificationCoalescer into the recruiter's open
+     * (unread, recent) aggregate notification for the job, or starts a new aggregate.
+     */
+    @Transactional
+    public void recordApplications(Long recruiterId, Long jobId, String jobTitle, String lastApplicantEmail, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Notification> open = notificationRepository
+                .findFirstByUserIdAndTypeAndJobIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(recruiterId,
+                        Notification.NotificationType.APPLICATION_RECEIVED, jobId, now.minusMinutes(aggregateWindowMinutes));
+
+        if (open.isPresent()) {
+            Notification aggregate = open.get();
+            if (notificationRepository.mergeInto(aggregate.getId(), count, applicationsSuffix(jobTitle), now) > 0) {
+                // The merge holds the row lock, so this is exactly the total it wrote
+                int total = notificationRepository.findAggregateCountById(aggregate.getId());
+                String message = applicationsMessage(total, jobTitle, lastApplicantEmail);
+                NotificationResponse response = NotificationResponse.builder()
+                        .id(aggregate.getId())
+                        .message(message)
+                        .jobId(jobId)
+                        .aggregateCount(total)
+                        .createdAt(aggregate.getCreatedAt())
+                        .build();
+                // The row was already unread, so the unread count does not change
+                afterCommit(() -> pushNotification(recruiterId, response, unreadCounter.add(recruiterId, 0)));
+                return;
+            }
+        }
+
+        create(Notification.builder()
+                .user(userRepository.getReferenceById(recruiterId))
+                .type(Notification.NotificationType.APPLICATION_RECEIVED)
+                .jobId(jobId)
+                .aggregateCount(count)
+                .message(applicationsMessage(count, jobTitle, lastApplicantEmail))
+                .build());
+    }
+
+    private Notification create(Notification notification) {
+        Notification saved = notificationRepository.save(notification);
+        meterRegistry.counter("notifications.created", "type", String.valueOf(saved.getType())).increment();
+        Long userId = saved.getUser().getId();
+        NotificationResponse response = convertToResponse(saved);
+        afterCommit(() -> pushNotification(userId, response, unreadCounter.add(userId, 1)));
+        return saved;
+    }
+
+    private String applicationsMessage(int count, String jobTitle, String lastApplicantEmail) {
+        if (count == 1) {
+            return String.format("New application received for %s from %s.", jobTitle, lastApplicantEmail);
+        }
+        return count + applicationsSuffix(jobTitle);
+    }
+
+    private String applicationsSuffix(String jobTitle) {
+        return String.format(" new applications received for %s.", jobTitle);
     }
 
     @Transactional
     public void markAsRead(Long id) {
-        Notification notification = notificationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        Long userId = getCurrentUserId();
+        // Single conditional UPDATE instead of load + save; it also scopes the update to the owner
+        if (notificationRepository.markAsRead(id, userId) == 0) {
+            if (!notificationRepository.existsByIdAndUserId(id, userId)) {
+                throw new ResourceNotFoundException("Notification not found");
+            }
+            return;
+        }
+        afterCommit(() -> unreadCounter.add(userId, -1)
+                .ifPresent(count -> pushUnreadCount(userId, count)));
+    }
+
+    /**
+     * Marks every unread notification of the current user as read in one UPDATE, optionally only
+     * those up to and including {@code upToId} so items that arrived after the client rendered
+     * its feed stay unread.
+     */
+    @Transactional
+    public int markAllAsRead(Long upToId) {
+        Long userId = getCurrentUserId();
+        int updated = notificationRepository.markAllAsRead(userId, upToId == null ? Long.MAX_VALUE : upToId);
+        if (updated > 0) {
+            afterCommit(() -> unreadCounter.add(userId, -updated)
+                    .ifPresent(count -> pushUnreadCount(userId, count)));
+        }
+        return updated;
     }
 
     public long getUnreadCount() {
+        Long userId = getCurrentUserId();
+        return unreadCounter.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
+    }
+
+    /**
+     * Deletes read notifications older than the retention period in small batches, each in its
+     * own short transaction, so the sweep never holds long locks on the table.
+     */
+    @Scheduled(cron = "${app.notifications.retention-cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = notificationRepository.findReadIdsCreatedBefore(cutoff, Limit.of(RETENTION_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                deleted += notificationRepository.deleteByIds(ids);
+            }
+        } while (ids.size() == RETENTION_BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("Purged {} read notifications older than {} days", deleted, retentionDays);
+        }
+    }
+
+    /**
+     * Recounts unread notifications for every tracked user in batched grouped queries and
+     * corrects counters that drifted (e.g. increments lost while a counter was being seeded).
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.reconcile-interval-ms:300000}")
+    public void reconcileUnreadCounts() {
+        unreadCounter.evictIdle();
+        List<Long> userIds = new ArrayList<>(unreadCounter.trackedUsers());
+
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            // Taken before the query, so counters that change meanwhile are left alone
+            Map<Long, Long> versions = new HashMap<>();
+            for (Long userId : batch) {
+                versions.put(userId, unreadCounter.version(userId));
+            }
+            Map<Long, Integer> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadByUserIds(batch)) {
+                actual.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+            for (Long userId : batch) {
+                int count = actual.getOrDefault(userId, 0);
+                if (unreadCounter.reconcile(userId, count, versions.get(userId))) {
+                    log.debug("Corrected drifted unread count for user {} to {}", userId, count);
+                    pushUnreadCount(userId, count);
+                }
+            }
+        }
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = securityUtils.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
         String email = securityUtils.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return notificationRepository.countByUserIdAndIsReadFalse(user.getId());
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+                .getId();
+    }
+
+    private void pushNotification(Long userId, NotificationResponse notification, OptionalInt unread) {
+        push(userId, NotificationEvent.builder()
+                .type(NotificationEvent.Type.NOTIFICATION)
+                .unreadCount(unread.isPresent() ? unread.getAsInt() : null)
+                .notification(notification)
+                .build());
+    }
+
+    private void pushUnreadCount(Long userId, int count) {
+        push(userId, NotificationEvent.builder()
+                .type(NotificationEvent.Type.UNREAD_COUNT)
+                .unreadCount(count)
+                .build());
+    }
+
+    private void push(Long userId, NotificationEvent event) {
+        try {
+            messagingTemplate.convertAndSend("/topic/user/" + userId + "/notifications", event);
+        } catch (Exception e) {
+            log.warn("Failed to push notification event to user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     private NotificationResponse convertToResponse(Notification n) {
         return NotificationResponse.builder()
                 .id(n.getId())
                 .message(n.getMessage())
+                .jobId(n.getJobId())
+                .aggregateCount(n.getAggregateCount())
                 .isRead(n.isRead())
                 .createdAt(n.getCreatedAt())
                 .build();
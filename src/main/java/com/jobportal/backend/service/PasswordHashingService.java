@@ -0,0 +1,116 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated pool sized to the CPU count. A login storm then costs at
+ * most that many cores, and the rest of the API keeps CPU time. The queue is bounded: once it
+ * is full, callers get {@link TooManyRequestsException} so clients back off.
+ * <p>
+ * Time spent waiting in the queue is recorded separately from the hashing time. A growing
+ * queue time with a flat hashing time means the pool, not the cost factor, is the bottleneck.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer queueTime;
+    private final Timer encodeTime;
+    private final Timer matchTime;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.password.threads:0}") int threads,
+                                  @Value("${app.security.password.queue-capacity:256}") int queueCapacity,
+                                  @Value("${app.security.password.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.queueTime = Timer.builder("password.hashing.queue.time").register(meterRegistry);
+        this.encodeTime = Timer.builder("password.hashing").tag("operation", "encode").register(meterRegistry);
+        this.matchTime = Timer.builder("password.hashing").tag("operation", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        meterRegistry.gauge("password.hashing.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(encodeTime, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchTime, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes on the pool and waits for the result, for callers that cannot continue
+     * asynchronously.
+     */
+    public String encodeAndWait(CharSequence rawPassword) {
+        try {
+            return encode(rawPassword).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Whether the stored hash was made with an older algorithm or a lower cost than the
+     * calibrated one. This only parses the hash, so it is cheap enough for the request thread.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> hashing) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTime.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(hashing);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-ins are being processed. Please retry shortly.",
+                    retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Password hashing did not finish in time; {} tasks pending", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
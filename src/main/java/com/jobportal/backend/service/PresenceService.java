@@ -0,0 +1,173 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.PresenceEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Online presence and typing throttles, kept in memory only and fed by STOMP frames.
+ * <p>
+ * Every inbound frame, heartbeats included, refreshes its session. Sessions that stop sending
+ * frames, e.g. behind a dropped connection that never delivered a DISCONNECT, expire through a
+ * time wheel: one slot per tick, and a session sits in the slot of its deadline. Refreshing a
+ * session only writes its last-seen tick. When a slot comes due, sessions that were seen since
+ * they were filed move to the slot of their new deadline, and the rest expire. Each tick
+ * therefore looks only at sessions that might have expired, not at every connection.
+ * <p>
+ * A user is online while at least one of their sessions is. Rooms a session subscribed to were
+ * already membership-checked at SUBSCRIBE, so presence changes and typing events for those
+ * rooms need no database access. State is per instance, like the simple broker it follows.
+ */
+@Slf4j
+@Service
+public class PresenceService {
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    // user id -> number of live sessions
+    private final Map<Long, Integer> onlineUsers = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private final int timeoutTicks;
+    private final long typingThrottleNanos;
+    private volatile long tick;
+
+    // The messaging template is created by the broker configuration, which itself depends on
+    // this service through WebSocketConfig, so it is resolved lazily
+    @SuppressWarnings("unchecked")
+    public PresenceService(ObjectProvider<SimpMessagingTemplate> messagingTemplate, MeterRegistry meterRegistry,
+                           @Value("${app.chat.presence.timeout-ms:30000}") long timeoutMillis,
+                           @Value("${app.chat.presence.tick-ms:5000}") long tickMillis,
+                           @Value("${app.chat.typing.throttle-ms:1000}") long typingThrottleMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.timeoutTicks = (int) Math.max(1, (timeoutMillis + tickMillis - 1) / tickMillis);
+        this.wheel = new Set[timeoutTicks + 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.typingThrottleNanos = TimeUnit.MILLISECONDS.toNanos(typingThrottleMillis);
+        meterRegistry.gaugeMapSize("chat.presence.sessions", List.of(), sessions);
+        meterRegistry.gaugeMapSize("chat.presence.online.users", List.of(), onlineUsers);
+    }
+
+    private static final class Session {
+        final String id;
+        final Long userId;
+        volatile long lastSeenTick;
+        // room id -> time of the last typing broadcast, 0 when none is pending
+        final Map<Long, Long> rooms = new ConcurrentHashMap<>();
+
+        Session(String id, Long userId, long tick) {
+            this.id = id;
+            this.userId = userId;
+            this.lastSeenTick = tick;
+        }
+    }
+
+    public boolean isOnline(Long userId) {
+        return onlineUsers.containsKey(userId);
+    }
+
+    /**
+     * Records activity on a session, registering it if it is new or had expired.
+     */
+    public void touch(String sessionId, Long userId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeenTick = tick;
+            return;
+        }
+        Session created = new Session(sessionId, userId, tick);
+        if (sessions.putIfAbsent(sessionId, created) == null) {
+            schedule(created);
+            onlineUsers.merge(userId, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Marks a chat room as open in the session and tells the room that the user is online.
+     * Callers must have checked that the user belongs to the room.
+     */
+    public void joinRoom(String sessionId, Long userId, Long roomId) {
+        touch(sessionId, userId);
+        Session session = sessions.get(sessionId);
+        if (session != null && session.rooms.putIfAbsent(roomId, 0L) == null) {
+            publish(roomId, userId, true);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session != null) {
+            release(session);
+        }
+    }
+
+    /**
+     * Decides whether a typing event from the session is forwarded to the room. Events for rooms
+     * the session has not subscribed to are dropped, and repeated "typing" events are forwarded
+     * at most once per throttle interval; "stopped typing" always goes through.
+     */
+    public boolean acceptTyping(String sessionId, Long roomId, boolean typing) {
+        Session session = sessions.get(sessionId);
+        Long last = session != null ? session.rooms.get(roomId) : null;
+        if (last == null) {
+            return false;
+        }
+        if (!typing) {
+            return session.rooms.replace(roomId, last, 0L) && last != 0L;
+        }
+        long now = System.nanoTime();
+        if (last != 0L && now - last < typingThrottleNanos) {
+            return false;
+        }
+        return session.rooms.replace(roomId, last, now);
+    }
+
+    @Scheduled(fixedRateString = "${app.chat.presence.tick-ms:5000}")
+    public void advance() {
+        long now = tick + 1;
+        tick = now;
+        Set<String> due = wheel[(int) (now % wheel.length)];
+        for (Iterator<String> it = due.iterator(); it.hasNext(); ) {
+            String sessionId = it.next();
+            it.remove();
+            Session session = sessions.get(sessionId);
+            if (session == null) {
+                continue;
+            }
+            if (session.lastSeenTick + timeoutTicks > now) {
+                schedule(session);
+            } else if (sessions.remove(sessionId, session)) {
+                log.debug("Presence of session {} expired", sessionId);
+                release(session);
+            }
+        }
+    }
+
+    private void schedule(Session session) {
+        wheel[(int) ((session.lastSeenTick + timeoutTicks) % wheel.length)].add(session.id);
+    }
+
+    private void release(Session session) {
+        Integer remaining = onlineUsers.computeIfPresent(session.userId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            session.rooms.keySet().forEach(roomId -> publish(roomId, session.userId, false));
+        }
+    }
+
+    private void publish(Long roomId, Long userId, boolean online) {
+        messagingTemplate.getObject().convertAndSend("/topic/chat/" + roomId + "/presence",
+                PresenceEvent.builder().userId(userId).online(online).build());
+    }
+}
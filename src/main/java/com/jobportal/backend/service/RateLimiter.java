@@ -0,0 +1,124 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process token buckets keyed by policy and subject (user id or client IP).
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again,
+ * in the form of the generic cell rate algorithm. Taking a token is one compare-and-set, with
+ * no lock and no timer. A bucket that has refilled completely is indistinguishable from a new
+ * one, so the periodic sweep can drop it without losing state. Memory therefore tracks the
+ * number of recently active clients, capped at {@code max-keys}. Beyond that cap, new subjects
+ * share one overflow bucket per policy, so a flood of distinct keys is throttled as a whole
+ * instead of growing the map.
+ * <p>
+ * Limits are per instance. Behind a load balancer the effective limit is the per-instance limit
+ * times the number of instances.
+ */
+@Component
+public class RateLimiter {
+    private static final String OVERFLOW_SUBJECT = "*";
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxKeys;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxKeys = maxKeys;
+        meterRegistry.gaugeMapSize("rate.limit.buckets", List.of(), buckets);
+    }
+
+    /**
+     * A bucket of {@code capacity} tokens that refills evenly over {@code period}.
+     */
+    public record Policy(String name, int capacity, long intervalNanos) {
+
+        /**
+         * Parses {@code <capacity>/<ISO-8601 period>}, e.g. {@code 10/PT1M} allows a burst of 10
+         * requests and 10 per minute sustained.
+         */
+        public static Policy parse(String name, String spec) {
+            int slash = spec.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("Rate limit '" + name + "' must look like 10/PT1M: " + spec);
+            }
+            int capacity = Integer.parseInt(spec.substring(0, slash).trim());
+            Duration period = Duration.parse(spec.substring(slash + 1).trim());
+            if (capacity < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit '" + name + "' needs a positive capacity and period");
+            }
+            return new Policy(name, capacity, Math.max(1, period.toNanos() / capacity));
+        }
+
+        long burstNanos() {
+            return intervalNanos * capacity;
+        }
+    }
+
+    /**
+     * Takes one token from the subject's bucket.
+     *
+     * @return 0 when the request may proceed or limiting is disabled, otherwise the number of
+     * seconds until a token is available (at least 1)
+     */
+    public long tryAcquire(Policy policy, String subject, String transport) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        AtomicLong bucket = bucket(policy, subject, now);
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + policy.intervalNanos();
+            long wait = next - now - policy.burstNanos();
+            if (wait > 0) {
+                Counter.builder("rate.limit.throttled")
+                        .tag("policy", policy.name())
+                        .tag("transport", transport)
+                        .register(meterRegistry)
+                        .increment();
+                return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucket(Policy policy, String subject, long now) {
+        String key = policy.name() + ':' + subject;
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            key = policy.name() + ':' + OVERFLOW_SUBJECT;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // A request racing the sweep may be counted against a bucket that was just dropped; it then
+    // gets one extra token, which is harmless
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ReadReceipt;
+import com.jobportal.backend.repository.ChatRoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers chat read watermarks per room and reader and writes them once per window, so switching
+ * back and forth between conversations costs at most one single-row update per room and reader
+ * per window. Each write that moves a watermark forward is announced on
+ * {@code /topic/chat/{id}/read}, where the sender sees how far their messages have been read.
+ * <p>
+ * An entry stays in the buffer until it has been written, and {@link #pendingLastRead} exposes
+ * it, so the reader's own unread counts never lag behind the window. Entries live in memory only;
+ * losing them on a crash at most shows a few messages as unread again.
+ */
+@Slf4j
+@Component
+public class ReadReceiptCoalescer {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    // Resolved lazily like in PresenceService: the broker configuration that creates the template
+    // depends on ChatService, which depends on this class
+    public ReadReceiptCoalescer(ChatRoomRepository chatRoomRepository,
+                                ObjectProvider<SimpMessagingTemplate> messagingTemplate) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * Records that the reader has seen every message of the room up to {@code messageId}. Callers
+     * must have checked that the reader belongs to the room, on the recruiter side or not.
+     */
+    public void markRead(Long chatRoomId, Long readerId, boolean recruiter, Long messageId) {
+        pending.merge(new Key(chatRoomId, readerId), new Pending(recruiter, messageId),
+                (current, update) -> update.messageId > current.messageId ? update : current);
+    }
+
+    /**
+     * The reader's watermark that is waiting to be written, or null when there is none.
+     */
+    public Long pendingLastRead(Long chatRoomId, Long readerId) {
+        Pending entry = pending.get(new Key(chatRoomId, readerId));
+        return entry != null ? entry.messageId : null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read-receipts.coalesce-window-ms:2000}")
+    public void flush() {
+        for (Map.Entry<Key, Pending> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            Pending watermark = entry.getValue();
+            try {
+                int updated = watermark.recruiter
+                        ? chatRoomRepository.advanceRecruiterLastRead(key.chatRoomId, watermark.messageId)
+                        : chatRoomRepository.advanceCandidateLastRead(key.chatRoomId, watermark.messageId);
+                // A newer watermark merged in meanwhile stays for the next flush
+                pending.remove(key, watermark);
+                if (updated > 0) {
+                    messagingTemplate.getObject().convertAndSend("/topic/chat/" + key.chatRoomId + "/read",
+                            ReadReceipt.builder()
+                                    .chatRoomId(key.chatRoomId)
+                                    .userId(key.readerId)
+                                    .lastReadMessageId(watermark.messageId)
+                                    .build());
+                }
+            } catch (Exception e) {
+                log.warn("Failed to flush read watermark of user {} in chat room {}: {}",
+                        key.readerId, key.chatRoomId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record Key(Long chatRoomId, Long readerId) {
+    }
+
+    private record Pending(boolean recruiter, long messageId) {
+    }
+}
@@ -0,0 +1,328 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.ArchivedPartition;
+import com.jobportal.backend.repository.ArchivedPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Monthly range partitioning for the append-only tables on PostgreSQL. On startup an existing
+ * plain table is converted in place: it is renamed to {@code <table>_legacy} and attached as the
+ * partition holding everything before the current month. A daily job keeps partitions created
+ * ahead of time and exports partitions older than the retention window to gzipped CSV files,
+ * after which they are dropped. {@link #ensureAvailable} attaches archived partitions again when
+ * a query needs rows from that period. On other databases all of this is a no-op.
+ */
+@Slf4j
+@Service
+public class TablePartitionService {
+
+    public static final String STATUS_HISTORY = "application_status_history";
+    public static final String CHAT_MESSAGES = "chat_messages";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final Pattern LOWER_BOUND = Pattern.compile("FROM \\('([^']+)'\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchivedPartitionRepository archivedPartitionRepository;
+    private final Map<String, PartitionedTable> tables;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final long rehydratedRetentionDays;
+    private final Path archiveDir;
+
+    // Newest archived upper bound per table; queries starting after it never need rehydration
+    private final Map<String, LocalDateTime> archivedUntil = new ConcurrentHashMap<>();
+    private volatile boolean partitioningEnabled;
+
+    public TablePartitionService(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ArchivedPartitionRepository archivedPartitionRepository,
+                                 @Value("${app.partitioning.enabled:true}") boolean enabled,
+                                 @Value("${app.partitioning.months-ahead:3}") int monthsAhead,
+                                 @Value("${app.partitioning.status-history.archive-after-months:12}") int historyArchiveAfter,
+                                 @Value("${app.partitioning.chat-messages.archive-after-months:24}") int chatArchiveAfter,
+                                 @Value("${app.partitioning.rehydrated-retention-days:7}") long rehydratedRetentionDays,
+                                 @Value("${app.partitioning.archive-dir:archive}") String archiveDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Partition DDL always commits on its own: ensureAvailable is called from read-only
+        // transactions (e.g. chat history), which PostgreSQL would refuse CREATE TABLE and COPY in
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.archivedPartitionRepository = archivedPartitionRepository;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.rehydratedRetentionDays = rehydratedRetentionDays;
+        this.archiveDir = Paths.get(archiveDir);
+        this.tables = Map.of(
+                STATUS_HISTORY, new PartitionedTable(STATUS_HISTORY, "timestamp", "application_id", historyArchiveAfter),
+                CHAT_MESSAGES, new PartitionedTable(CHAT_MESSAGES, "created_at", "chat_room_id", chatArchiveAfter));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("Table partitioning disabled");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("Table partitioning not available on {}", product);
+                return;
+            }
+            for (PartitionedTable table : tables.values()) {
+                convertIfNeeded(table);
+                createUpcomingPartitions(table);
+                refreshArchivedUntil(table.name);
+            }
+            partitioningEnabled = true;
+            log.info("Monthly partitioning enabled for {}", tables.keySet());
+        } catch (Exception e) {
+            log.warn("Could not enable table partitioning: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        if (!partitioningEnabled) {
+            return;
+        }
+        for (PartitionedTable table : tables.values()) {
+            try {
+                createUpcomingPartitions(table);
+                archiveColdPartitions(table);
+            } catch (Exception e) {
+                log.error("Partition maintenance failed for {}", table.name, e);
+            }
+        }
+    }
+
+    /**
+     * Makes sure rows of {@code table} from {@code from} onwards are queryable, attaching any
+     * archived partition in that range again. Cheap when nothing in the range was archived.
+     */
+    public void ensureAvailable(String table, LocalDateTime from) {
+        if (!partitioningEnabled || from == null) {
+            return;
+        }
+        LocalDateTime until = archivedUntil.get(table);
+        if (until == null || !from.isBefore(until)) {
+            return;
+        }
+        synchronized (this) {
+            for (ArchivedPartition archived : archivedPartitionRepository
+                    .findByTableNameAndRehydratedAtIsNullAndRangeEndGreaterThan(table, from)) {
+                rehydrate(tables.get(table), archived);
+            }
+            refreshArchivedUntil(table);
+        }
+    }
+
+    private void convertIfNeeded(PartitionedTable table) {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                        + "WHERE c.relname = ?)", Boolean.class, table.name);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table.name);
+        if (Boolean.TRUE.equals(partitioned) || !Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        String legacy = table.name + "_legacy";
+        log.info("Converting {} to a partitioned table; existing rows move to {}", table.name, legacy);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + table.name + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("UPDATE " + table.name + " SET " + table.column + " = now() WHERE " + table.column + " IS NULL");
+            // The legacy partition has to hold every existing row, including this month's and any
+            // stamped just now, so it ends at the month start after the newest row
+            LocalDateTime newest = jdbcTemplate.queryForObject("SELECT MAX(" + table.column + ") FROM " + table.name,
+                    LocalDateTime.class);
+            LocalDateTime boundary = newest == null
+                    ? monthStart(LocalDate.now())
+                    : monthStart(newest.toLocalDate().plusMonths(1));
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " RENAME TO " + legacy);
+            // Partitions must match the parent's NOT NULL partition column
+            jdbcTemplate.execute("ALTER TABLE " + legacy + " ALTER COLUMN " + table.column + " SET NOT NULL");
+            // and may only carry the parent's primary key, which attaching creates on it
+            for (String constraint : jdbcTemplate.queryForList("SELECT conname FROM pg_constraint "
+                    + "WHERE conrelid = ?::regclass AND contype = 'p'", String.class, legacy)) {
+                jdbcTemplate.execute("ALTER TABLE " + legacy + " DROP CONSTRAINT \"" + constraint + "\"");
+            }
+            jdbcTemplate.execute("CREATE TABLE " + table.name + " (LIKE " + legacy
+                    + " INCLUDING DEFAULTS INCLUDING IDENTITY) PARTITION BY RANGE (" + table.column + ")");
+            // The new identity sequence has to continue after the existing ids
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + table.name + "', 'id'), "
+                    + "COALESCE((SELECT MAX(id) FROM " + legacy + "), 0) + 1, false)");
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " ALTER COLUMN " + table.column + " SET NOT NULL");
+            // A partitioned table's primary key has to include the partition column
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " ADD PRIMARY KEY (id, " + table.column + ")");
+            jdbcTemplate.execute("CREATE INDEX idx_" + table.name + "_" + table.parentColumn + " ON " + table.name
+                    + " (" + table.parentColumn + ", " + table.column + ")");
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " ATTACH PARTITION " + legacy
+                    + " FOR VALUES FROM (MINVALUE) TO ('" + boundary.format(BOUND) + "')");
+        });
+    }
+
+    private void createUpcomingPartitions(PartitionedTable table) {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        LocalDate last = month.plusMonths(monthsAhead);
+        // Months still covered by the legacy partition get no partition of their own
+        LocalDateTime legacyEnd = legacyUpperBound(table);
+        if (legacyEnd != null && legacyEnd.toLocalDate().isAfter(month)) {
+            month = legacyEnd.toLocalDate();
+        }
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            String partition = table.name + "_p" + month.format(SUFFIX);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table.name
+                        + " FOR VALUES FROM ('" + monthStart(month).format(BOUND) + "') TO ('"
+                        + monthStart(month.plusMonths(1)).format(BOUND) + "')");
+            } catch (Exception e) {
+                // Typically the range is still covered by the legacy partition
+                log.debug("Skipped partition {}: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    private LocalDateTime legacyUpperBound(PartitionedTable table) {
+        List<String> bounds = jdbcTemplate.queryForList("SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c "
+                + "WHERE c.relname = ? AND c.relispartition", String.class, table.name + "_legacy");
+        return bounds.isEmpty() ? null : parseBound(UPPER_BOUND, bounds.get(0));
+    }
+
+    private void archiveColdPartitions(PartitionedTable table) throws IOException {
+        if (table.archiveAfterMonths <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = monthStart(LocalDate.now().minusMonths(table.archiveAfterMonths));
+        List<Map<String, Object>> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = ?", table.name);
+
+        for (Map<String, Object> partition : partitions) {
+            String name = (String) partition.get("name");
+            String bound = (String) partition.get("bound");
+            LocalDateTime end = parseBound(UPPER_BOUND, bound);
+            if (end == null || end.isAfter(cutoff)) {
+                continue;
+            }
+            ArchivedPartition previous = archivedPartitionRepository.findById(name).orElse(null);
+            if (previous != null && previous.getRehydratedAt() != null
+                    && previous.getRehydratedAt().isAfter(LocalDateTime.now().minusDays(rehydratedRetentionDays))) {
+                continue;
+            }
+            archive(table, name, parseBound(LOWER_BOUND, bound), end);
+        }
+        refreshArchivedUntil(table.name);
+    }
+
+    private void archive(PartitionedTable table, String partition, LocalDateTime start, LocalDateTime end)
+            throws IOException {
+        Files.createDirectories(archiveDir);
+        Path target = archiveDir.resolve(partition + ".csv.gz");
+        Path temp = archiveDir.resolve(partition + ".csv.gz.tmp");
+
+        long rows;
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyOut("COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER true)", out);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to export " + partition, e);
+                }
+            });
+        }
+        // Only drop the partition once the complete file is in place
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            archivedPartitionRepository.save(ArchivedPartition.builder()
+                    .partitionName(partition)
+                    .tableName(table.name)
+                    .rangeStart(start)
+                    .rangeEnd(end)
+                    .filePath(target.toAbsolutePath().toString())
+                    .rowCount(rows)
+                    .archivedAt(LocalDateTime.now())
+                    .build());
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        });
+        log.info("Archived {} rows of {} to {}", rows, partition, target);
+    }
+
+    private void rehydrate(PartitionedTable table, ArchivedPartition archived) {
+        String partition = archived.getPartitionName();
+        String from = archived.getRangeStart() == null ? "MINVALUE" : "'" + archived.getRangeStart().format(BOUND) + "'";
+        log.info("Rehydrating {} from {}", partition, archived.getFilePath());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table.name + " INCLUDING DEFAULTS)");
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(Paths.get(archived.getFilePath())))) {
+                    return connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyIn("COPY " + partition + " FROM STDIN WITH (FORMAT csv, HEADER true)", in);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to restore " + partition, e);
+                }
+            });
+            jdbcTemplate.execute("ALTER TABLE " + table.name + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM (" + from + ") TO ('" + archived.getRangeEnd().format(BOUND) + "')");
+            archived.setRehydratedAt(LocalDateTime.now());
+            archivedPartitionRepository.save(archived);
+        });
+    }
+
+    private void refreshArchivedUntil(String table) {
+        archivedPartitionRepository.findByTableNameAndRehydratedAtIsNull(table).stream()
+                .map(ArchivedPartition::getRangeEnd)
+                .max(LocalDateTime::compareTo)
+                .ifPresentOrElse(end -> archivedUntil.put(table, end), () -> archivedUntil.remove(table));
+    }
+
+    private static LocalDateTime parseBound(Pattern pattern, String bound) {
+        Matcher matcher = pattern.matcher(bound);
+        return matcher.find() ? LocalDateTime.parse(matcher.group(1).substring(0, 19), BOUND) : null;
+    }
+
+    private static LocalDateTime monthStart(LocalDate date) {
+        return date.withDayOfMonth(1).atStartOfDay();
+    }
+
+    private record PartitionedTable(String name, String column, String parentColumn, int archiveAfterMonths) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.config.JwtService;
+import com.jobportal.backend.config.TokenRevocationList;
+import com.jobportal.backend.dto.AuthResponse;
+import com.jobportal.backend.exception.InvalidTokenException;
+import com.jobportal.backend.exception.TooManyRequestsException;
+import com.jobportal.backend.model.RefreshToken;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues access/refresh token pairs, rotates refresh tokens and revokes a user's tokens when
+ * the identity carried in the access token changes.
+ */
+@Slf4j
+@Service
+public class TokenService {
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
+    private final Duration refreshTokenTtl;
+    private final RateLimiter rateLimiter;
+    private final RateLimiter.Policy refreshPolicy;
+    private final SecureRandom random = new SecureRandom();
+
+    public TokenService(RefreshTokenRepository refreshTokenRepository, JwtService jwtService,
+                        TokenRevocationList revocationList,
+                        @Value("${app.security.jwt.refresh-token-ttl:P14D}") Duration refreshTokenTtl,
+                        RateLimiter rateLimiter,
+                        // Per token family, so users sharing an IP (office, NAT) never share a bucket
+                        @Value("${app.rate-limit.refresh:20/PT1M}") String refreshLimit) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.revocationList = revocationList;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.rateLimiter = rateLimiter;
+        this.refreshPolicy = RateLimiter.Policy.parse("refresh", refreshLimit);
+    }
+
+    /**
+     * Starts a new refresh token family, e.g. on login.
+     */
+    @Transactional
+    public AuthResponse issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair. The presented token is consumed; presenting it
+     * again, or racing it against a concurrent refresh, revokes its whole family.
+     *
+     * @throws InvalidTokenException when the token is unknown, expired or already used
+     * @throws TooManyRequestsException when the token's family refreshes too often; the token is
+     *                                  not consumed and may be presented again later
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthResponse refresh(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        long retryAfterSeconds = rateLimiter.tryAcquire(refreshPolicy, "family:" + token.getFamilyId(), "http");
+        if (retryAfterSeconds > 0) {
+            throw new TooManyRequestsException("Too many token refreshes. Please retry shortly.", retryAfterSeconds);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Reuse of a rotated refresh token for user {}; revoked {} tokens of its family",
+                    token.getUser().getId(), revoked);
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        // The user row is current, so a changed email or role takes effect here
+        return issue(token.getUser(), token.getFamilyId());
+    }
+
+    /**
+     * Ends a session: revokes the refresh token family and, if known, the access token
+     * presented with the request.
+     */
+    @Transactional
+    public void logout(String rawToken, JwtService.AccessToken accessToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+        if (accessToken != null) {
+            revocationList.revokeToken(accessToken.id(), accessToken.expiresAt());
+        }
+    }
+
+    /**
+     * Invalidates the user's access tokens, whose claims are now stale. Sessions continue via
+     * refresh, which issues tokens with the new claims.
+     */
+    public void revokeAccessTokens(Long userId) {
+        revocationList.revokeUser(userId);
+    }
+
+    /**
+     * Signs the user out everywhere, e.g. after a password change.
+     */
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+        revocationList.revokeUser(userId);
+    }
+
+    // Keeps rotated tokens for a day past expiry so late reuse is still detected and logged
+    @Scheduled(cron = "${app.security.jwt.refresh-token-cleanup-cron:0 15 4 * * *}")
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private AuthResponse issue(User user, String familyId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenTtl))
+                .build());
+
+        return AuthResponse.builder()
+                .accessToken(jwtService.generateAccessToken(user))
+                .refreshToken(rawToken)
+                .expiresIn(jwtService.getAccessTokenTtl().toSeconds())
+                .build();
+    }
+
+    // Refresh tokens are random, so an unsalted fast hash is enough to keep them out of the table
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
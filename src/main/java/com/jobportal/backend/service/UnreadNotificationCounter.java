@@ -0,0 +1,102 @@
+package com.jobportal.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user unread notification counts kept in memory. A user's counter is seeded from the
+ * database on first read and then maintained by NotificationService; users that have not read
+ * their count for a while are evicted so memory stays proportional to active users.
+ * <p>
+ * Every change bumps the counter's version, so a reconciliation based on a count read before a
+ * concurrent change is skipped instead of overwriting that change.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final Map<Long, Entry> counters = new ConcurrentHashMap<>();
+    private final long idleMillis;
+
+    public UnreadNotificationCounter(@Value("${app.notifications.counter-idle-minutes:60}") long idleMinutes) {
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+    }
+
+    public int get(long userId, LongSupplier seed) {
+        Entry entry = counters.get(userId);
+        if (entry == null) {
+            // Seeded outside the map so the COUNT query never holds a map lock; a concurrent
+            // seed of the same user may win, and either value is then corrected by reconcile
+            Entry seeded = new Entry((int) seed.getAsLong());
+            Entry existing = counters.putIfAbsent(userId, seeded);
+            entry = existing != null ? existing : seeded;
+        }
+        entry.lastAccess = System.currentTimeMillis();
+        return entry.state.get().count;
+    }
+
+    /**
+     * Adjusts a seeded counter; returns the new value, or empty if the user is not tracked yet
+     * (the next read seeds it from the database anyway).
+     */
+    public OptionalInt add(long userId, int delta) {
+        Entry entry = counters.get(userId);
+        if (entry == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(entry.state.updateAndGet(
+                current -> new State(Math.max(0, current.count + delta), current.version + 1)).count);
+    }
+
+    /**
+     * The version of a tracked counter to pass to {@link #reconcile}, read before querying the
+     * authoritative count; -1 if the user is not tracked.
+     */
+    public long version(long userId) {
+        Entry entry = counters.get(userId);
+        return entry != null ? entry.state.get().version : -1;
+    }
+
+    /**
+     * Overwrites a tracked counter with the authoritative value unless it changed since
+     * {@code expectedVersion}; returns true if it had drifted and was corrected. A skipped
+     * counter is checked again on the next reconciliation.
+     */
+    public boolean reconcile(long userId, int actual, long expectedVersion) {
+        Entry entry = counters.get(userId);
+        if (entry == null) {
+            return false;
+        }
+        State current = entry.state.get();
+        return current.version == expectedVersion && current.count != actual
+                && entry.state.compareAndSet(current, new State(actual, current.version + 1));
+    }
+
+    public Set<Long> trackedUsers() {
+        return counters.keySet();
+    }
+
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        counters.values().removeIf(entry -> entry.lastAccess < cutoff);
+    }
+
+    private static final class Entry {
+        private final AtomicReference<State> state;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private Entry(int count) {
+            this.state = new AtomicReference<>(new State(count, 0));
+        }
+    }
+
+    private record State(int count, long version) {
+    }
+}
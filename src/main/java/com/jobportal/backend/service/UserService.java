@@ -5,14 +5,14 @@ import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
+    private final TokenService tokenService;
 
     public User findByEmail(String email) {
         return userRepository.findByEmail(email)
@@ -22,16 +22,20 @@ public class UserService {
     public User updateProfile(String currentEmail, UpdateUserRequest request) {
         User user = userRepository.findByEmail(currentEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        boolean emailChanged = false;
+        boolean passwordChanged = false;
 
         if (request.getEmail() != null && !request.getEmail().equals(currentEmail)) {
             if (userRepository.existsByEmail(request.getEmail())) {
                 throw new RuntimeException("Email already in use");
             }
             user.setEmail(request.getEmail());
+            emailChanged = true;
         }
 
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setPassword(passwordHashing.encodeAndWait(request.getPassword()));
+            passwordChanged = true;
         }
 
         if (request.getFirstName() != null) user.setFirstName(request.getFirstName());
@@ -39,6 +43,13 @@ public class UserService {
         if (request.getPhone() != null) user.setPhone(request.getPhone());
         if (request.getBio() != null) user.setBio(request.getBio());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Access tokens carry the email, so they go stale; a password change ends every session
+        if (passwordChanged) {
+            tokenService.revokeAll(saved.getId());
+        } else if (emailChanged) {
+            tokenService.revokeAccessTokens(saved.getId());
+        }
+        return saved;
     }
 }
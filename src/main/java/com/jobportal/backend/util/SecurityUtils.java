@@ -21,4 +21,16 @@ public class SecurityUtils {
         
         return authentication.getName();
     }
+
+    /**
+     * Returns the id of the authenticated user without a database lookup, or null when the
+     * principal is not a User entity.
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
 }
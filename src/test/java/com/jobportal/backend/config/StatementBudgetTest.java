@@ -0,0 +1,61 @@
+package com.jobportal.backend.config;
+
+import com.jobportal.backend.exception.StatementBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fingerprint_IgnoresLiteralsAndInListLength() {
+        // Act
+        String first = StatementBudget.fingerprint("select a1_0.id from applications a1_0 where a1_0.job_id in (?,?,?) and a1_0.status='APPLIED'");
+        String second = StatementBudget.fingerprint("select a1_0.id  from applications a1_0\n where a1_0.job_id in (?, ?) and a1_0.status='HIRED'");
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals("select a1_0.id from applications a1_0 where a1_0.job_id in (?...) and a1_0.status=?", first);
+    }
+
+    @Test
+    void end_RepeatedQueryShape_ReportsNPlusOne() {
+        // Arrange
+        StatementBudget budget = new StatementBudget(meterRegistry, true, 20, 5, false);
+        assertTrue(budget.begin());
+        budget.inspect("select j1_0.id from jobs j1_0");
+        for (int i = 0; i < 6; i++) {
+            budget.inspect("select u1_0.id from users u1_0 where u1_0.id=" + i);
+        }
+
+        // Act
+        StatementBudget.Report report = budget.end("GET /jobs");
+
+        // Assert
+        assertEquals(7, report.statements());
+        assertEquals(1, report.repeated().size());
+        assertEquals(6, report.repeated().get(0).getValue());
+        assertEquals(1.0, meterRegistry.counter("db.statements.n_plus_one").count());
+        assertEquals(7.0, meterRegistry.get("db.statements.per.request").tag("endpoint", "GET /jobs")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void end_StrictModeOverBudget_ThrowsAndClearsUnit() {
+        // Arrange
+        StatementBudget budget = new StatementBudget(meterRegistry, true, 2, 5, true);
+        assertTrue(budget.begin());
+        assertFalse(budget.begin());
+        budget.inspect("select 1 from jobs");
+        budget.inspect("select 1 from users");
+        budget.inspect("select 1 from applications");
+
+        // Act & Assert
+        assertThrows(StatementBudgetExceededException.class, () -> budget.end("GET /applications"));
+        assertTrue(budget.begin());
+        budget.end("GET /applications");
+    }
+}
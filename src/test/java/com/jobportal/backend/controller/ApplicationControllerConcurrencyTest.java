@@ -0,0 +1,136 @@
+package com.jobportal.backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.cors.allowed-origins=http://localhost",
+        // One candidate sends every request; the limits under test are the unique key and the batcher
+        "app.rate-limit.enabled=false",
+        "app.applications.intake.max-in-flight=1000",
+        "server.tomcat.threads.max=400"})
+class ApplicationControllerConcurrencyTest {
+
+    private static final int CALLERS = 400;
+    private static final String SHARED_KEY = "double-click";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void apply_ManyConcurrentDuplicates_InsertsOneRowAndRejectsOrReplaysTheRest() throws Exception {
+        // Arrange: half the callers retry with one Idempotency-Key, the other half each send a fresh request
+        String recruiterToken = register("recruiter@example.com", "RECRUITER");
+        String candidateToken = register("candidate@example.com", "CANDIDATE");
+        Long jobId = createJob(recruiterToken);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<Map>>> futures = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            String idempotencyKey = i % 2 == 0 ? SHARED_KEY : null;
+            futures.add(pool.submit(() -> {
+                start.await();
+                return apply(candidateToken, jobId, idempotencyKey);
+            }));
+        }
+
+        // Act
+        start.countDown();
+        List<ResponseEntity<Map>> responses = new ArrayList<>(CALLERS);
+        for (Future<ResponseEntity<Map>> future : futures) {
+            responses.add(future.get(60, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE job_id = ?", Integer.class, jobId));
+        Long storedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM applications WHERE job_id = ?", Long.class, jobId);
+        Set<Object> acceptedIds = new HashSet<>();
+        int accepted = 0;
+        for (ResponseEntity<Map> response : responses) {
+            if (response.getStatusCode() == HttpStatus.OK) {
+                accepted++;
+                acceptedIds.add(((Number) response.getBody().get("id")).longValue());
+            } else {
+                assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            }
+        }
+        assertEquals(Set.of(storedId), acceptedIds);
+        // Either a fresh request won alone, or the key's first use won and every retry replayed it
+        assertTrue(accepted == 1 || accepted == CALLERS / 2, "accepted " + accepted);
+    }
+
+    private String register(String email, String role) {
+        Map<String, String> body = Map.of("email", email, "password", "password123",
+                "firstName", "Test", "lastName", "User", "role", role);
+        ResponseEntity<Map> response = restTemplate.postForEntity("/auth/register", body, Map.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return (String) response.getBody().get("accessToken");
+    }
+
+    private Long createJob(String token) {
+        Map<String, String> body = Map.of("title", "Java Developer", "description", "Build things",
+                "companyName", "Acme", "location", "Remote", "salaryRange", "1",
+                "jobType", "FULL_TIME", "experienceLevel", "MID");
+        ResponseEntity<Map> response = restTemplate.postForEntity("/jobs",
+                new HttpEntity<>(body, headers(token, null)), Map.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return ((Number) response.getBody().get("id")).longValue();
+    }
+
+    private ResponseEntity<Map> apply(String token, Long jobId, String idempotencyKey) {
+        return restTemplate.postForEntity("/applications",
+                new HttpEntity<>(Map.of("jobId", jobId), headers(token, idempotencyKey)), Map.class);
+    }
+
+    private static HttpHeaders headers(String token, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.backend.controller;
+
+import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.service.JobResponseCache;
+import com.jobportal.backend.service.JobService;
+import com.jobportal.backend.service.JobStatsService;
+import com.jobportal.backend.util.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class JobControllerTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private JobStatsService jobStatsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JobResponseCache cache = new JobResponseCache(new SimpleMeterRegistry(), 30, 5000, 100);
+        mockMvc = MockMvcBuilders.standaloneSetup(new JobController(jobService, securityUtils, cache, jobStatsService))
+                .build();
+    }
+
+    @Test
+    void getJobById_MatchingEtag_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(jobService.getJobById(1L)).thenReturn(JobResponse.builder().id(1L).title("Engineer").build());
+        String etag = mockMvc.perform(get("/jobs/1").accept("application/json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/jobs/1").accept("application/json").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(jobService, times(1)).getJobById(1L);
+    }
+
+    @Test
+    void getJobById_JsonEtagWithCborAccept_ReturnsCborBody() throws Exception {
+        // Arrange
+        when(jobService.getJobById(1L)).thenReturn(JobResponse.builder().id(1L).title("Engineer").build());
+        String jsonEtag = mockMvc.perform(get("/jobs/1").accept("application/json"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        String cborEtag = mockMvc.perform(get("/jobs/1").accept("application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(jsonEtag, cborEtag);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jobportal.backend.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSpecificationTest {
+
+    @Test
+    void toTsQuery_TermsAreAnded() {
+        assertEquals("java & berlin", JobSpecification.toTsQuery(JobSpecification.parseSearch("Java  Berlin")));
+    }
+
+    @Test
+    void toTsQuery_PrefixAndPhrase() {
+        String query = JobSpecification.toTsQuery(JobSpecification.parseSearch("\"senior backend\" dev*"));
+        assertEquals("(senior <-> backend) & dev:*", query);
+    }
+
+    @Test
+    void toTsQuery_StripsOperatorCharacters() {
+        assertEquals("c & net", JobSpecification.toTsQuery(JobSpecification.parseSearch("c++ .net")));
+        assertNull(JobSpecification.toTsQuery(JobSpecification.parseSearch("!&| ()")));
+    }
+
+    @Test
+    void isRanked_RequiresFullTextAndAUsableQuery() {
+        assertTrue(JobSpecification.isRanked("java", true));
+        assertFalse(JobSpecification.isRanked("java", false));
+        assertFalse(JobSpecification.isRanked("  ", true));
+        assertFalse(JobSpecification.isRanked("!!!", true));
+    }
+}
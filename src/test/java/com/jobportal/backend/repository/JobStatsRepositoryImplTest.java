@@ -0,0 +1,116 @@
+package com.jobportal.backend.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class JobStatsRepositoryImplTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    static Stream<JdbcDatabaseContainer<?>> databases() {
+        return Stream.of(postgres, mysql);
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void lockOrCreate_CreatesMissingRowsOnceAndKeepsExistingCounters(JdbcDatabaseContainer<?> database) {
+        // Arrange
+        JdbcTemplate jdbcTemplate = createTable(database);
+        jdbcTemplate.update("INSERT INTO job_stats (job_id, applied_count, shortlisted_count, rejected_count, "
+                + "in_progress_count, hired_count) VALUES (2, 7, 0, 0, 0, 0)");
+        JobStatsRepositoryImpl repository = new JobStatsRepositoryImpl(jdbcTemplate);
+        TransactionTemplate transaction = transaction(jdbcTemplate);
+
+        // Act
+        transaction.executeWithoutResult(status -> repository.lockOrCreate(List.of(3L, 1L, 2L)));
+        transaction.executeWithoutResult(status -> repository.lockOrCreate(List.of(1L)));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), jdbcTemplate.queryForList(
+                "SELECT job_id FROM job_stats ORDER BY job_id", Long.class));
+        assertEquals(7L, jdbcTemplate.queryForObject(
+                "SELECT applied_count FROM job_stats WHERE job_id = 2", Long.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void lockOrCreate_WaitsForUncommittedIncrement(JdbcDatabaseContainer<?> database) throws Exception {
+        // Arrange: an intake transaction has incremented the row but not committed yet
+        JdbcTemplate jdbcTemplate = createTable(database);
+        jdbcTemplate.update("INSERT INTO job_stats (job_id, applied_count, shortlisted_count, rejected_count, "
+                + "in_progress_count, hired_count) VALUES (1, 0, 0, 0, 0, 0)");
+        JobStatsRepositoryImpl repository = new JobStatsRepositoryImpl(jdbcTemplate);
+        TransactionTemplate transaction = transaction(jdbcTemplate);
+        CountDownLatch incremented = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> increment = executor.submit(() -> transaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE job_stats SET applied_count = applied_count + 1 WHERE job_id = 1");
+            incremented.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(incremented.await(10, TimeUnit.SECONDS));
+
+        // Act
+        Future<Long> recount = Executors.newSingleThreadExecutor().submit(() -> transaction.execute(status -> {
+            repository.lockOrCreate(List.of(1L));
+            return jdbcTemplate.queryForObject("SELECT applied_count FROM job_stats WHERE job_id = 1", Long.class);
+        }));
+        Thread.sleep(500);
+        boolean doneWhileIncrementOpen = recount.isDone();
+        release.countDown();
+        increment.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(doneWhileIncrementOpen);
+        assertEquals(1L, recount.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private JdbcTemplate createTable(JdbcDatabaseContainer<?> database) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(database.getJdbcUrl(),
+                database.getUsername(), database.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS job_stats");
+        jdbcTemplate.execute("CREATE TABLE job_stats (job_id BIGINT NOT NULL PRIMARY KEY, "
+                + "applied_count BIGINT NOT NULL, shortlisted_count BIGINT NOT NULL, rejected_count BIGINT NOT NULL, "
+                + "in_progress_count BIGINT DEFAULT 0 NOT NULL, hired_count BIGINT DEFAULT 0 NOT NULL, "
+                + "last_applied_at TIMESTAMP NULL)");
+        return jdbcTemplate;
+    }
+
+    private TransactionTemplate transaction(JdbcTemplate jdbcTemplate) {
+        TransactionTemplate transaction = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        // Each statement sees the latest committed rows, as the stats rebuild does
+        transaction.setIsolationLevel(TransactionTemplate.ISOLATION_READ_COMMITTED);
+        return transaction;
+    }
+}
@@ -0,0 +1,141 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.AnalyticsWatermark;
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import com.jobportal.backend.model.ApplicationRollup;
+import com.jobportal.backend.model.ApplicationRollup.Granularity;
+import com.jobportal.backend.repository.AnalyticsWatermarkRepository;
+import com.jobportal.backend.repository.ApplicationRollupRepository;
+import com.jobportal.backend.repository.ApplicationStatusHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsRollupServiceTest {
+
+    @Mock
+    private ApplicationStatusHistoryRepository historyRepository;
+
+    @Mock
+    private ApplicationRollupRepository rollupRepository;
+
+    @Mock
+    private AnalyticsWatermarkRepository watermarkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsRollupService rollupService;
+
+    private final LocalDateTime appliedAt = LocalDateTime.now().minusDays(3).truncatedTo(ChronoUnit.HOURS);
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new AnalyticsRollupService(historyRepository, rollupRepository, watermarkRepository,
+                transactionManager, 100, 120);
+        lenient().when(watermarkRepository.findById(AnalyticsRollupService.WATERMARK)).thenReturn(Optional.of(
+                AnalyticsWatermark.builder().name(AnalyticsRollupService.WATERMARK).lastId(10L).build()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollUpBatch_FoldsEventsIntoHourlyAndDailyBuckets() {
+        // Arrange
+        List<Object[]> events = new ArrayList<>();
+        events.add(new Object[]{11L, null, ApplicationStatus.APPLIED, appliedAt.plusMinutes(5), 1L, 2L, appliedAt});
+        events.add(new Object[]{12L, null, ApplicationStatus.APPLIED, appliedAt.plusMinutes(6), 1L, 2L, appliedAt});
+        events.add(new Object[]{13L, ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED,
+                appliedAt.plusMinutes(90), 1L, 2L, appliedAt});
+        events.add(new Object[]{14L, ApplicationStatus.APPLIED, ApplicationStatus.REJECTED,
+                appliedAt.plusMinutes(95), 1L, 2L, appliedAt});
+        when(historyRepository.findRollupEvents(eq(10L), any(Limit.class))).thenReturn(events);
+        when(rollupRepository.findByGranularityAndJobIdInAndBucketStartIn(any(), any(), any())).thenReturn(List.of());
+        when(watermarkRepository.advance(eq(AnalyticsRollupService.WATERMARK), eq(10L), eq(14L), any())).thenReturn(1);
+
+        // Act
+        int consumed = rollupService.rollUpBatch();
+
+        // Assert
+        assertEquals(4, consumed);
+        ArgumentCaptor<Iterable<ApplicationRollup>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(rollupRepository, times(2)).saveAll(saved.capture());
+
+        List<ApplicationRollup> hourly = new ArrayList<>();
+        saved.getAllValues().get(0).forEach(hourly::add);
+        assertEquals(2, hourly.size());
+        assertTrue(hourly.stream().allMatch(rollup -> rollup.getGranularity() == Granularity.HOURLY));
+
+        ApplicationRollup daily = saved.getAllValues().get(1).iterator().next();
+        assertEquals(Granularity.DAILY, daily.getGranularity());
+        assertEquals(appliedAt.truncatedTo(ChronoUnit.DAYS), daily.getBucketStart());
+        assertEquals(2, daily.getAppliedCount());
+        assertEquals(1, daily.getShortlistedCount());
+        assertEquals(1, daily.getRejectedCount());
+        assertEquals(2L, daily.getRecruiterId());
+
+        LatencySketch sketch = LatencySketch.decode(daily.getTimeToShortlist());
+        assertEquals(1, sketch.count());
+        assertEquals(90, sketch.percentileMinutes(50));
+    }
+
+    @Test
+    void rollUpBatch_StopsAtFirstUnsettledRow() {
+        // Arrange: row 12 is too recent; row 13 must wait even though it looks settled
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> events = new ArrayList<>();
+        events.add(new Object[]{11L, null, ApplicationStatus.APPLIED, now.minusHours(1), 1L, 2L, now.minusHours(1)});
+        events.add(new Object[]{12L, null, ApplicationStatus.APPLIED, now, 1L, 2L, now});
+        events.add(new Object[]{13L, null, ApplicationStatus.APPLIED, now.minusHours(1), 1L, 2L, now.minusHours(1)});
+        when(historyRepository.findRollupEvents(eq(10L), any(Limit.class))).thenReturn(events);
+        when(rollupRepository.findByGranularityAndJobIdInAndBucketStartIn(any(), any(), any())).thenReturn(List.of());
+        when(watermarkRepository.advance(eq(AnalyticsRollupService.WATERMARK), eq(10L), eq(11L), any())).thenReturn(1);
+
+        // Act & Assert
+        assertEquals(1, rollupService.rollUpBatch());
+    }
+
+    @Test
+    void rollUpBatch_WatermarkMovedConcurrently_RollsBack() {
+        // Arrange
+        List<Object[]> events = new ArrayList<>();
+        events.add(new Object[]{11L, null, ApplicationStatus.APPLIED, appliedAt, 1L, 2L, appliedAt});
+        when(historyRepository.findRollupEvents(eq(10L), any(Limit.class))).thenReturn(events);
+        when(rollupRepository.findByGranularityAndJobIdInAndBucketStartIn(any(), any(), any())).thenReturn(List.of());
+        when(watermarkRepository.advance(anyString(), anyLong(), anyLong(), any())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> rollupService.rollUpBatch());
+    }
+
+    @Test
+    void latencySketch_MergesAcrossBuckets() {
+        LatencySketch first = new LatencySketch();
+        LatencySketch second = new LatencySketch();
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            (minutes % 2 == 0 ? first : second).record(Duration.ofMinutes(minutes));
+        }
+
+        LatencySketch merged = LatencySketch.decode(first.encode()).merge(LatencySketch.decode(second.encode()));
+
+        assertEquals(100, merged.count());
+        assertEquals(50, merged.percentileMinutes(50));
+        assertEquals(99, merged.percentileMinutes(99));
+    }
+}
@@ -0,0 +1,233 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.ConflictException;
+import com.jobportal.backend.exception.ServiceUnavailableException;
+import com.jobportal.backend.exception.TooManyRequestsException;
+import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.ApplicationRepositoryCustom.NewApplication;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationIntakeBufferTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
+    @Mock
+    private JobStatsService jobStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationIntakeBuffer intakeBuffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (intakeBuffer != null) {
+            intakeBuffer.shutdown();
+        }
+    }
+
+    @Test
+    void submit_ConcurrentDuplicates_OnlyOneSucceeds() {
+        // Arrange: the repository behaves like the (user_id, job_id) unique constraint
+        intakeBuffer = newBuffer(1000);
+        stubUniqueConstraint();
+
+        // Act
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> intakeBuffer.submit(intake(1L, 7L)))
+                    .thenCompose(result -> result));
+        }
+
+        // Assert
+        int succeeded = 0;
+        int conflicts = 0;
+        for (CompletableFuture<Long> result : results) {
+            try {
+                result.join();
+                succeeded++;
+            } catch (CompletionException e) {
+                assertInstanceOf(ConflictException.class, e.getCause());
+                conflicts++;
+            }
+        }
+        assertEquals(1, succeeded);
+        assertEquals(199, conflicts);
+        verify(notificationCoalescer).applicationsReceived(2L, 1L, "Software Engineer", "user7@example.com", 1);
+    }
+
+    @Test
+    void submit_Burst_IsBatchedPerJob() {
+        // Arrange
+        intakeBuffer = newBuffer(1000);
+        AtomicInteger inserts = new AtomicInteger();
+        Map<Long, Long> ids = stubUniqueConstraint(inserts);
+
+        // Act
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (long userId = 1; userId <= 500; userId++) {
+            results.add(intakeBuffer.submit(intake(1L, userId)));
+        }
+        results.forEach(CompletableFuture::join);
+
+        // Assert
+        assertEquals(500, ids.size());
+        assertTrue(inserts.get() < 500, "applications should be inserted in batches");
+        assertEquals(0, intakeBuffer.getQueueDepth());
+        verify(jobStatsService, times(inserts.get())).recordApplications(eq(1L), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void submit_OverMaxInFlight_RejectsWithRetryAfter() throws InterruptedException {
+        // Arrange: hold the first batch in the database so the queue fills up
+        intakeBuffer = newBuffer(2);
+        CountDownLatch inDatabase = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(applicationRepository.findApplicantIds(anyLong(), any())).thenAnswer(invocation -> {
+            inDatabase.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Set.of();
+        });
+        when(applicationRepository.insertApplied(anyLong(), anyList())).thenReturn(Map.of());
+
+        CompletableFuture<Long> first = intakeBuffer.submit(intake(1L, 1L));
+        assertTrue(inDatabase.await(10, TimeUnit.SECONDS));
+        intakeBuffer.submit(intake(1L, 2L));
+
+        // Act & Assert
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> intakeBuffer.submit(intake(1L, 3L)));
+        assertEquals(5, exception.getRetryAfterSeconds());
+
+        release.countDown();
+        assertThrows(CompletionException.class, first::join);
+    }
+
+    @Test
+    void submit_RaceWithAnotherInstance_FallsBackToSingleInserts() {
+        // Arrange: the batch insert hits the unique constraint, single inserts only fail for user 2
+        intakeBuffer = newBuffer(1000);
+        when(applicationRepository.findApplicantIds(anyLong(), any())).thenReturn(Set.of());
+        when(applicationRepository.insertApplied(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<NewApplication> rows = invocation.getArgument(1);
+            if (rows.size() > 1 || rows.get(0).userId() == 2L) {
+                throw new DataIntegrityViolationException("uk_applications_user_job");
+            }
+            return Map.of(rows.get(0).userId(), 10L + rows.get(0).userId());
+        });
+        CountDownLatch hold = holdFirstBatch();
+
+        // Act
+        CompletableFuture<Long> blocker = intakeBuffer.submit(intake(1L, 1L));
+        CompletableFuture<Long> second = intakeBuffer.submit(intake(1L, 2L));
+        CompletableFuture<Long> third = intakeBuffer.submit(intake(1L, 3L));
+        hold.countDown();
+
+        // Assert
+        assertEquals(11L, blocker.join());
+        CompletionException exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(ConflictException.class, exception.getCause());
+        assertEquals(13L, third.join());
+    }
+
+    private CountDownLatch holdFirstBatch() {
+        CountDownLatch hold = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                hold.await(10, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(transactionManager).getTransaction(any());
+        return hold;
+    }
+
+    @Test
+    void submit_DatabaseFailure_FailsWithServiceUnavailable() {
+        // Arrange
+        intakeBuffer = newBuffer(1000);
+        when(applicationRepository.findApplicantIds(anyLong(), any()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        // Act
+        CompletableFuture<Long> result = intakeBuffer.submit(intake(1L, 7L));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+        assertEquals(0, intakeBuffer.getQueueDepth());
+    }
+
+    private void stubUniqueConstraint() {
+        stubUniqueConstraint(new AtomicInteger());
+    }
+
+    private Map<Long, Long> stubUniqueConstraint(AtomicInteger inserts) {
+        Map<Long, Long> stored = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+        when(applicationRepository.findApplicantIds(anyLong(), any())).thenAnswer(invocation -> {
+            Set<Long> existing = new HashSet<>(invocation.<Collection<Long>>getArgument(1));
+            existing.retainAll(stored.keySet());
+            return existing;
+        });
+        when(applicationRepository.insertApplied(anyLong(), anyList())).thenAnswer(invocation -> {
+            inserts.incrementAndGet();
+            Map<Long, Long> ids = new HashMap<>();
+            for (NewApplication row : invocation.<List<NewApplication>>getArgument(1)) {
+                if (stored.putIfAbsent(row.userId(), sequence.incrementAndGet()) != null) {
+                    throw new DataIntegrityViolationException("uk_applications_user_job");
+                }
+                ids.put(row.userId(), stored.get(row.userId()));
+            }
+            return ids;
+        });
+        return stored;
+    }
+
+    private ApplicationIntakeBuffer newBuffer(int maxInFlight) {
+        return new ApplicationIntakeBuffer(applicationRepository, notificationCoalescer, jobStatsService, transactionManager,
+                new SimpleMeterRegistry(), 4, maxInFlight, 200, 5);
+    }
+
+    private static ApplicationIntakeBuffer.Intake intake(Long jobId, Long userId) {
+        return new ApplicationIntakeBuffer.Intake(jobId, 2L, "Software Engineer", userId,
+                "user" + userId + "@example.com", null, LocalDateTime.now());
+    }
+}
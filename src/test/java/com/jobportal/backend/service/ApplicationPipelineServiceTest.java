@@ -0,0 +1,113 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import com.jobportal.backend.model.RecruiterPipeline;
+import com.jobportal.backend.repository.RecruiterPipelineRepository;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationPipelineServiceTest {
+
+    private static final ApplicationPipeline CUSTOM = ApplicationPipeline.compile(Map.of(
+            ApplicationStatus.APPLIED, List.of(ApplicationStatus.SCREENING),
+            ApplicationStatus.SCREENING, List.of(ApplicationStatus.HIRED)));
+
+    @Mock
+    private RecruiterPipelineRepository pipelineRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    private RecruiterPipeline stored;
+
+    @BeforeEach
+    void setUp() {
+        stored = RecruiterPipeline.builder().recruiterId(2L).transitions(CUSTOM.encode()).build();
+        lenient().when(securityUtils.getCurrentUserId()).thenReturn(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getPipeline_WithinTtl_ParsesOnce() {
+        // Arrange
+        ApplicationPipelineService service = new ApplicationPipelineService(pipelineRepository, userRepository,
+                securityUtils, 30);
+        when(pipelineRepository.findById(2L)).thenReturn(Optional.of(stored));
+
+        // Act
+        service.getPipeline(2L);
+        ApplicationPipeline pipeline = service.getPipeline(2L);
+
+        // Assert
+        assertTrue(pipeline.canTransition(ApplicationStatus.SCREENING, ApplicationStatus.HIRED));
+        verify(pipelineRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    void getPipeline_TtlExpired_PicksUpChangeFromAnotherInstance() {
+        // Arrange: another instance reset the pipeline after this one cached it
+        ApplicationPipelineService service = new ApplicationPipelineService(pipelineRepository, userRepository,
+                securityUtils, 0);
+        when(pipelineRepository.findById(2L)).thenReturn(Optional.of(stored), Optional.empty());
+        service.getPipeline(2L);
+
+        // Act
+        ApplicationPipeline pipeline = service.getPipeline(2L);
+
+        // Assert
+        assertSame(ApplicationPipeline.DEFAULT, pipeline);
+    }
+
+    @Test
+    void getPipeline_LoadRacingWithReset_DoesNotCacheOldRow() {
+        // Arrange: the reset commits after the load read the old row but before it is cached
+        ApplicationPipelineService service = new ApplicationPipelineService(pipelineRepository, userRepository,
+                securityUtils, 30);
+        when(pipelineRepository.findById(2L)).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            service.resetMyPipeline();
+            commit();
+            return Optional.of(stored);
+        }).thenReturn(Optional.empty());
+        service.getPipeline(2L);
+        clearInvocations(pipelineRepository);
+
+        // Act
+        ApplicationPipeline pipeline = service.getPipeline(2L);
+
+        // Assert
+        assertSame(ApplicationPipeline.DEFAULT, pipeline);
+        verifyNoInteractions(pipelineRepository);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
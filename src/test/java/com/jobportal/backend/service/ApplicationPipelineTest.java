@@ -0,0 +1,50 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationPipelineTest {
+
+    @Test
+    void default_AllowsMovesBetweenOriginalStatusesOnly() {
+        // Act & Assert
+        assertTrue(ApplicationPipeline.DEFAULT.canTransition(ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED));
+        assertTrue(ApplicationPipeline.DEFAULT.canTransition(ApplicationStatus.REJECTED, ApplicationStatus.APPLIED));
+        assertFalse(ApplicationPipeline.DEFAULT.canTransition(ApplicationStatus.APPLIED, ApplicationStatus.APPLIED));
+        assertFalse(ApplicationPipeline.DEFAULT.canTransition(ApplicationStatus.APPLIED, ApplicationStatus.HIRED));
+    }
+
+    @Test
+    void encodeDecode_RoundTripsTransitionTable() {
+        // Arrange
+        ApplicationPipeline pipeline = ApplicationPipeline.compile(Map.of(
+                ApplicationStatus.APPLIED, List.of(ApplicationStatus.SCREENING, ApplicationStatus.REJECTED),
+                ApplicationStatus.SCREENING, List.of(ApplicationStatus.INTERVIEW, ApplicationStatus.REJECTED),
+                ApplicationStatus.INTERVIEW, List.of(ApplicationStatus.OFFER, ApplicationStatus.REJECTED),
+                ApplicationStatus.OFFER, List.of(ApplicationStatus.HIRED)));
+
+        // Act
+        ApplicationPipeline decoded = ApplicationPipeline.decode(pipeline.encode());
+
+        // Assert
+        assertEquals(pipeline.transitions(), decoded.transitions());
+        assertTrue(decoded.canTransition(ApplicationStatus.OFFER, ApplicationStatus.HIRED));
+        assertFalse(decoded.canTransition(ApplicationStatus.APPLIED, ApplicationStatus.OFFER));
+        assertFalse(decoded.canTransition(ApplicationStatus.HIRED, ApplicationStatus.REJECTED));
+    }
+
+    @Test
+    void compile_RejectsSelfAndUnreachableTransitions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ApplicationPipeline.compile(Map.of(
+                ApplicationStatus.APPLIED, List.of(ApplicationStatus.APPLIED))));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationPipeline.compile(Map.of(
+                ApplicationStatus.APPLIED, List.of(ApplicationStatus.REJECTED),
+                ApplicationStatus.OFFER, List.of(ApplicationStatus.HIRED))));
+    }
+}
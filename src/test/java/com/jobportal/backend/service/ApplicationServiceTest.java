@@ -1,24 +1,36 @@
 package com.jobportal.backend.service;
 
 import com.jobportal.backend.dto.ApplicationRequest;
+import com.jobportal.backend.dto.ApplicationResponse;
+import com.jobportal.backend.dto.BulkStatusUpdateRequest;
+import com.jobportal.backend.dto.BulkStatusUpdateResponse;
+import com.jobportal.backend.exception.ConflictException;
+import com.jobportal.backend.model.Application;
+import com.jobportal.backend.model.Job;
 import com.jobportal.backend.model.User;
 import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.ApplicationStatusHistoryRepository;
+import com.jobportal.backend.repository.CandidateProfileRepository;
 import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.NotificationRepositoryCustom.NewNotification;
 import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,35 +45,207 @@ class ApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
-    @InjectMocks
+    @Mock
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Mock
+    private ApplicationIntakeBuffer intakeBuffer;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private JobStatsService jobStatsService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ApplicationPipelineService pipelineService;
+
+    @Mock
+    private TablePartitionService tablePartitionService;
+
+    @Mock
+    private CandidateProfileService candidateProfileService;
+
     private ApplicationService applicationService;
 
+    private User user;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        applicationService = new ApplicationService(applicationRepository, userRepository, jobRepository,
+                statusHistoryRepository, notificationService, intakeBuffer, jobStatsService, tablePartitionService,
+                pipelineService, candidateProfileRepository, candidateProfileService, securityUtils, 3);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+
+        User recruiter = new User();
+        recruiter.setId(2L);
+
+        job = Job.builder()
+                .id(1L)
+                .title("Software Engineer")
+                .recruiter(recruiter)
+                .build();
+
+        when(securityUtils.getCurrentUserEmail()).thenReturn("test@example.com");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        lenient().when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        lenient().when(candidateProfileRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        lenient().when(pipelineService.getPipeline(2L)).thenReturn(ApplicationPipeline.DEFAULT);
+    }
+
     @Test
-    void applyToJob_AlreadyApplied_ThrowsException() {
+    void applyToJob_AlreadyApplied_ThrowsConflict() {
         // Arrange
         ApplicationRequest request = new ApplicationRequest();
         request.setJobId(1L);
+        when(intakeBuffer.submit(any(ApplicationIntakeBuffer.Intake.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ConflictException("You have already applied for this job.")));
 
-        User user = new User();
-        user.setId(1L);
-        user.setEmail("test@example.com");
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> applicationService.applyToJob(request).join());
 
-        Authentication authentication = mock(Authentication.class);
-        SecurityContext securityContext = mock(SecurityContext.class);
+        assertInstanceOf(ConflictException.class, exception.getCause());
+        assertEquals("You have already applied for this job.", exception.getCause().getMessage());
+    }
 
-        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class)) {
-            mockedSecurityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
-            when(securityContext.getAuthentication()).thenReturn(authentication);
-            when(authentication.getName()).thenReturn("test@example.com");
-            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-            when(applicationRepository.existsByUserIdAndJobId(1L, 1L)).thenReturn(true);
+    @Test
+    void applyToJob_Accepted_ReturnsPersistedApplication() {
+        // Arrange
+        ApplicationRequest request = new ApplicationRequest();
+        request.setJobId(1L);
+        when(intakeBuffer.submit(any(ApplicationIntakeBuffer.Intake.class)))
+                .thenReturn(CompletableFuture.completedFuture(100L));
+
+        // Act
+        ApplicationResponse response = applicationService.applyToJob(request).join();
+
+        // Assert
+        assertEquals(100L, response.getId());
+        assertEquals(Application.ApplicationStatus.APPLIED, response.getStatus());
+        verify(intakeBuffer).submit(argThat(intake -> intake.jobId().equals(1L) && intake.recruiterId().equals(2L)
+                && intake.userId().equals(1L) && intake.candidateProfileId() == null));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void updateApplicationStatus_ConcurrentChange_RetriesWithFreshOldStatus() {
+        // Arrange: another recruiter rejected the application between our read and our update
+        Application application = Application.builder()
+                .id(5L).user(user).job(job).status(Application.ApplicationStatus.APPLIED).build();
+        when(applicationRepository.findById(5L)).thenReturn(Optional.of(application));
+        when(applicationRepository.transitionStatus(eq(5L), eq(Application.ApplicationStatus.APPLIED),
+                eq(Application.ApplicationStatus.SHORTLISTED), any())).thenReturn(0);
+        when(applicationRepository.lockStatusById(5L)).thenReturn(Optional.of(Application.ApplicationStatus.REJECTED));
+        when(applicationRepository.transitionStatus(eq(5L), eq(Application.ApplicationStatus.REJECTED),
+                eq(Application.ApplicationStatus.SHORTLISTED), any())).thenReturn(1);
+
+        // Act
+        ApplicationResponse response = applicationService.updateApplicationStatus(5L,
+                Application.ApplicationStatus.SHORTLISTED, null);
+
+        // Assert
+        assertEquals(Application.ApplicationStatus.SHORTLISTED, response.getStatus());
+        verify(statusHistoryRepository).save(argThat(history ->
+                history.getOldStatus() == Application.ApplicationStatus.REJECTED
+                        && history.getNewStatus() == Application.ApplicationStatus.SHORTLISTED));
+        verify(jobStatsService).recordTransition(1L, Application.ApplicationStatus.REJECTED,
+                Application.ApplicationStatus.SHORTLISTED);
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void updateApplicationStatus_KeepsLosingRace_GivesUpAfterMaxAttempts() {
+        // Arrange: every compare-and-set misses
+        Application application = Application.builder()
+                .id(5L).user(user).job(job).status(Application.ApplicationStatus.APPLIED).build();
+        when(applicationRepository.findById(5L)).thenReturn(Optional.of(application));
+        when(applicationRepository.transitionStatus(eq(5L), any(), eq(Application.ApplicationStatus.SHORTLISTED), any()))
+                .thenReturn(0);
+        when(applicationRepository.lockStatusById(5L)).thenReturn(Optional.of(Application.ApplicationStatus.APPLIED));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> applicationService.updateApplicationStatus(5L,
+                Application.ApplicationStatus.SHORTLISTED, null));
+        verify(applicationRepository, times(3)).transitionStatus(eq(5L), any(), any(), any());
+        verifyNoInteractions(statusHistoryRepository, notificationService);
+    }
 
-            // Act & Assert
-            RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-                applicationService.applyToJob(request);
-            });
+    @Test
+    void updateApplicationStatus_ExpectedStatusMismatch_ThrowsConflict() {
+        // Arrange
+        Application application = Application.builder()
+                .id(5L).user(user).job(job).status(Application.ApplicationStatus.REJECTED).build();
+        when(applicationRepository.findById(5L)).thenReturn(Optional.of(application));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> applicationService.updateApplicationStatus(5L,
+                Application.ApplicationStatus.SHORTLISTED, Application.ApplicationStatus.APPLIED));
+        verify(applicationRepository, never()).transitionStatus(any(), any(), any(), any());
+        verifyNoInteractions(statusHistoryRepository, notificationService);
+    }
+
+    @Test
+    void updateApplicationStatus_TransitionNotInPipeline_ThrowsWithoutUpdating() {
+        // Arrange
+        Application application = Application.builder()
+                .id(5L).user(user).job(job).status(Application.ApplicationStatus.APPLIED).build();
+        when(applicationRepository.findById(5L)).thenReturn(Optional.of(application));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> applicationService.updateApplicationStatus(5L,
+                Application.ApplicationStatus.HIRED, null));
+        verify(applicationRepository, never()).transitionStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdateStatus_ValidatesInMemoryAndMovesPerSourceStatus() {
+        // Arrange: the recruiter owns jobs 1 and 3; application 13 belongs to another recruiter
+        user.setId(2L);
+        when(pipelineService.getPipeline(2L)).thenReturn(ApplicationPipeline.DEFAULT);
+        when(applicationRepository.findTransitionRows(List.of(10L, 11L, 12L, 13L, 14L))).thenReturn(List.of(
+                row(10L, Application.ApplicationStatus.APPLIED, 1L, 2L),
+                row(11L, Application.ApplicationStatus.APPLIED, 3L, 2L),
+                row(12L, Application.ApplicationStatus.SHORTLISTED, 1L, 2L),
+                row(13L, Application.ApplicationStatus.APPLIED, 1L, 9L)));
+        when(applicationRepository.lockIdsInStatus(List.of(10L, 11L), Application.ApplicationStatus.APPLIED))
+                .thenReturn(List.of(10L));
+        when(applicationRepository.bulkTransition(eq(List.of(10L)), eq(Application.ApplicationStatus.APPLIED),
+                eq(Application.ApplicationStatus.SHORTLISTED), any())).thenReturn(1);
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setApplicationIds(List.of(10L, 11L, 12L, 13L, 14L, 10L));
+        request.setStatus(Application.ApplicationStatus.SHORTLISTED);
+
+        // Act
+        BulkStatusUpdateResponse response = applicationService.bulkUpdateStatus(request);
+
+        // Assert
+        assertEquals(1, response.getUpdated());
+        assertEquals(List.of(12L), response.getInvalid());
+        assertEquals(List.of(11L), response.getConflicted());
+        assertEquals(List.of(13L, 14L), response.getNotFound());
+        verify(applicationRepository).insertStatusHistory(eq(List.of(10L)), eq(Application.ApplicationStatus.APPLIED),
+                eq(Application.ApplicationStatus.SHORTLISTED), eq(2L), any());
+        verify(jobStatsService).recordTransition(1L, Application.ApplicationStatus.APPLIED,
+                Application.ApplicationStatus.SHORTLISTED, 1);
+        verify(notificationService).notifyAll(List.of(
+                new NewNotification(110L, "Your application for Software Engineer at Acme was shortlisted.")));
+        verify(notificationService, never()).notify(any(), anyString());
+        verify(applicationRepository, never()).findById(any());
+    }
 
-            assertEquals("You have already applied for this job.", exception.getMessage());
-        }
+    private static Object[] row(Long id, Application.ApplicationStatus status, Long jobId, Long recruiterId) {
+        return new Object[]{id, status, jobId, recruiterId, 100L + id, "Software Engineer", "Acme"};
     }
 }
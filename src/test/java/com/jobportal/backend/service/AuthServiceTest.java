@@ -0,0 +1,98 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.AuthResponse;
+import com.jobportal.backend.dto.LoginRequest;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String LEGACY_HASH = "$2a$10$legacyhashlegacyhashlegacyhashlegacyhashlegacyhashleg";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashing;
+
+    @Mock
+    private TokenService tokenService;
+
+    private AuthService authService;
+
+    private User user;
+    private LoginRequest request;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, passwordHashing, tokenService, 1);
+        user = User.builder()
+                .id(7L)
+                .email("candidate@example.com")
+                .password(LEGACY_HASH)
+                .build();
+        when(userRepository.findByEmail("candidate@example.com")).thenReturn(Optional.of(user));
+
+        request = new LoginRequest();
+        request.setEmail("candidate@example.com");
+        request.setPassword("secret");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        authService.shutdown();
+    }
+
+    @Test
+    void login_OutdatedHash_ReturnsTokenAndUpgradesHash() {
+        // Arrange
+        when(passwordHashing.matches("secret", LEGACY_HASH)).thenReturn(CompletableFuture.completedFuture(true));
+        when(passwordHashing.needsRehash(LEGACY_HASH)).thenReturn(true);
+        when(passwordHashing.encode("secret")).thenReturn(CompletableFuture.completedFuture("{bcrypt}$2a$12$new"));
+        AuthResponse tokens = AuthResponse.builder().accessToken("access").refreshToken("refresh").build();
+        AtomicReference<String> issuingThread = new AtomicReference<>();
+        when(tokenService.issue(user)).thenAnswer(invocation -> {
+            issuingThread.set(Thread.currentThread().getName());
+            return tokens;
+        });
+
+        // Act
+        AuthResponse response = authService.login(request).join();
+
+        // Assert
+        assertSame(tokens, response);
+        assertEquals("token-issuer-1", issuingThread.get());
+        verify(userRepository).replacePasswordHash(eq(7L), eq(LEGACY_HASH), eq("{bcrypt}$2a$12$new"), any());
+    }
+
+    @Test
+    void login_WrongPassword_FailsWithoutRehash() {
+        // Arrange
+        when(passwordHashing.matches("secret", LEGACY_HASH)).thenReturn(CompletableFuture.completedFuture(false));
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> authService.login(request).join());
+        assertEquals("Invalid credentials", exception.getCause().getMessage());
+        verify(passwordHashing, never()).encode(anyString());
+        verifyNoInteractions(tokenService);
+    }
+}
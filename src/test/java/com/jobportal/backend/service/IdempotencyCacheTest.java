@@ -0,0 +1,102 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final IdempotencyCache cache = new IdempotencyCache(10, 1000);
+
+    @Test
+    void execute_ConcurrentRetries_RunActionOnce() throws Exception {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        Callable<String> retry = () -> cache.execute("user:key", "apply:1", () -> {
+            executions.incrementAndGet();
+            sleep(50);
+            return "response";
+        });
+
+        // Act
+        List<Future<String>> results = executor.invokeAll(IntStream.range(0, 200).mapToObj(i -> retry).toList());
+        executor.shutdown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("response", result.get());
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_FailedAttempt_CanBeRetried() {
+        assertThrows(IllegalStateException.class, () -> cache.execute("user:key", "apply:1", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("ok", cache.execute("user:key", "apply:1", () -> "ok"));
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_ThrowsConflict() {
+        cache.execute("user:key", "apply:1", () -> "first");
+
+        assertThrows(ConflictException.class, () -> cache.execute("user:key", "apply:2", () -> "second"));
+    }
+
+    @Test
+    void executeAsync_RetryWhilePending_SharesFirstAttempt() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = cache.executeAsync("user:key", "apply:1", () -> {
+            executions.incrementAndGet();
+            return pending;
+        });
+
+        // Act
+        CompletableFuture<String> retry = cache.executeAsync("user:key", "apply:1", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+        pending.complete("response");
+
+        // Assert
+        assertEquals("response", first.join());
+        assertEquals("response", retry.join());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void executeAsync_FailedAttempt_CanBeRetried() {
+        // Arrange
+        cache.executeAsync("user:key", "apply:1",
+                () -> CompletableFuture.<String>failedFuture(new IllegalStateException("boom")));
+
+        // Act
+        String result = cache.executeAsync("user:key", "apply:1", () -> CompletableFuture.completedFuture("ok")).join();
+
+        // Assert
+        assertEquals("ok", result);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobportal.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCountCacheTest {
+
+    private JobCountCache cache;
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void getCount_FullCache_EvictsLeastRecentlyReadKey() throws InterruptedException {
+        // Arrange
+        cache = new JobCountCache(60, 2);
+        AtomicInteger counts = new AtomicInteger();
+        cache.getCount("a", () -> counts.incrementAndGet());
+        Thread.sleep(5);
+        cache.getCount("b", () -> counts.incrementAndGet());
+        Thread.sleep(5);
+        cache.getCount("a", () -> counts.incrementAndGet());
+        Thread.sleep(5);
+
+        // Act
+        cache.getCount("c", () -> counts.incrementAndGet());
+
+        // Assert: c is cached, a survived, b was evicted
+        assertEquals(3, counts.get());
+        cache.getCount("c", () -> counts.incrementAndGet());
+        cache.getCount("a", () -> counts.incrementAndGet());
+        assertEquals(3, counts.get());
+        cache.getCount("b", () -> counts.incrementAndGet());
+        assertEquals(4, counts.get());
+    }
+
+    @Test
+    void markStale_ServesCachedTotalWhileRefreshingInBackground() throws InterruptedException {
+        // Arrange
+        cache = new JobCountCache(60, 10);
+        AtomicLong total = new AtomicLong(5);
+        cache.getCount("all", total::get);
+        total.set(6);
+
+        // Act
+        cache.markStale();
+        long servedWhileStale = cache.getCount("all", total::get);
+
+        // Assert
+        assertEquals(5, servedWhileStale);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (cache.getCount("all", total::get) != 6 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(6, cache.getCount("all", total::get));
+    }
+}
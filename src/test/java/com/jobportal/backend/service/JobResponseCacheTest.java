@@ -0,0 +1,79 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobResponseCacheTest {
+
+    private JobResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobResponseCache(new SimpleMeterRegistry(), 30, 5000, 2);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void respond_RepeatedKey_LoadsOnceAndVariesOnNegotiatedHeaders() {
+        // Act
+        ResponseEntity<String> first = cache.respond("job:1", "json", this::load);
+        ResponseEntity<String> second = cache.respond("job:1", "json", this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals("body-1", second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertTrue(first.getHeaders().getETag().startsWith("W/\""));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), first.getHeaders().getVary());
+        assertEquals("max-age=30, public", first.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void respond_OtherRepresentation_SharesEntryButNotEtag() {
+        // Act
+        ResponseEntity<String> json = cache.respond("job:1", "json", this::load);
+        ResponseEntity<String> cbor = cache.respond("job:1", "cbor", this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertNotEquals(json.getHeaders().getETag(), cbor.getHeaders().getETag());
+    }
+
+    @Test
+    void invalidate_OutsideTransaction_ReloadsWithNewEtag() {
+        // Arrange
+        ResponseEntity<String> before = cache.respond("job:1", "json", this::load);
+
+        // Act
+        cache.invalidate();
+        ResponseEntity<String> after = cache.respond("job:1", "json", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals("body-2", after.getBody());
+        assertNotEquals(before.getHeaders().getETag(), after.getHeaders().getETag());
+    }
+
+    @Test
+    void representation_FollowsAcceptPreferences() {
+        assertEquals("json", JobResponseCache.representation(null));
+        assertEquals("json", JobResponseCache.representation("*/*"));
+        assertEquals("cbor", JobResponseCache.representation("application/cbor"));
+        assertEquals("cbor", JobResponseCache.representation("application/cbor, */*;q=0.8"));
+        assertEquals("json", JobResponseCache.representation("application/cbor;q=0.5, application/json"));
+        assertEquals("json", JobResponseCache.representation("not a media type"));
+    }
+
+    private String load() {
+        return "body-" + loads.incrementAndGet();
+    }
+}
@@ -1,26 +1,39 @@
 package com.jobportal.backend.service;
 
+import com.jobportal.backend.config.FullTextSearchInitializer;
 import com.jobportal.backend.dto.JobResponse;
+import com.jobportal.backend.dto.JobScrollResponse;
+import com.jobportal.backend.dto.JobSummaryResponse;
 import com.jobportal.backend.exception.ResourceNotFoundException;
 import com.jobportal.backend.model.Job;
 import com.jobportal.backend.repository.JobRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import java.util.Collections;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +42,15 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private FullTextSearchInitializer fullTextSearch;
+
+    @Spy
+    private JobCountCache jobCountCache = new JobCountCache(60, 100);
+
+    @Mock
+    private FluentQuery.FetchableFluentQuery<Job> query;
+
     @InjectMocks
     private JobService jobService;
 
@@ -45,6 +67,11 @@ class JobServiceTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        jobCountCache.shutdown();
+    }
+
     @Test
     void getJobById_Success() {
         // Arrange
@@ -68,4 +95,85 @@ class JobServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> jobService.getJobById(99L));
         verify(jobRepository, times(1)).findById(99L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void scrollJobs_CursorOfLastItem_ContinuesAfterIt() {
+        // Arrange
+        Job newer = job(9L, LocalDateTime.of(2024, 5, 2, 10, 0));
+        Job older = job(4L, LocalDateTime.of(2024, 5, 1, 10, 0));
+        stubFluentQuery();
+        when(query.scroll(any())).thenReturn(
+                Window.from(List.of(newer, older), i -> keyset(i == 0 ? newer : older), true),
+                Window.from(List.of(), i -> ScrollPosition.keyset(), false));
+
+        // Act
+        JobScrollResponse first = jobService.scrollJobs(null, 2, null, null, null);
+        JobScrollResponse second = jobService.scrollJobs(first.getNextCursor(), 2, null, null, null);
+
+        // Assert
+        ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(query, times(2)).scroll(positions.capture());
+        assertTrue(positions.getAllValues().get(0).isInitial());
+        assertEquals(keyset(older), positions.getAllValues().get(1));
+        assertEquals(List.of(9L, 4L), first.getContent().stream().map(JobSummaryResponse::getId).toList());
+        assertTrue(first.isHasNext());
+        assertNull(second.getNextCursor());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void scrollJobs_MalformedCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> jobService.scrollJobs("not-a-cursor", 10, null, null, null));
+        verify(jobRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void getAllJobs_SameFilters_CountsOnceAcrossPages() {
+        // Arrange
+        stubFluentQuery();
+        when(query.scroll(any())).thenReturn(Window.from(List.of(sampleJob), ScrollPosition::offset, true));
+        when(jobRepository.count(any(Specification.class))).thenReturn(42L);
+
+        // Act
+        Page<JobSummaryResponse> first = jobService.getAllJobs(0, 1, "createdAt", "Engineer", null, null);
+        Page<JobSummaryResponse> second = jobService.getAllJobs(1, 1, "createdAt", " engineer ", null, null);
+
+        // Assert
+        assertEquals(42L, first.getTotalElements());
+        assertEquals(42L, second.getTotalElements());
+        verify(jobRepository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void getAllJobs_SearchWithoutLexemes_KeepsRequestedSortWithIdTiebreak() {
+        // Arrange: "!!!" yields no tsquery, so the specification falls back to unranked LIKE
+        when(fullTextSearch.isFullTextEnabled()).thenReturn(true);
+        stubFluentQuery();
+        when(query.scroll(any())).thenReturn(Window.from(List.of(), ScrollPosition::offset, false));
+        when(jobRepository.count(any(Specification.class))).thenReturn(0L);
+
+        // Act
+        jobService.getAllJobs(0, 10, "title", "!!!", null, null);
+
+        // Assert
+        verify(query).sortBy(Sort.by(Sort.Direction.DESC, "title", "id"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFluentQuery() {
+        when(query.sortBy(any())).thenReturn(query);
+        when(query.limit(anyInt())).thenReturn(query);
+        when(jobRepository.findBy(any(Specification.class), any())).thenAnswer(invocation ->
+                invocation.<Function<FluentQuery.FetchableFluentQuery<Job>, Object>>getArgument(1).apply(query));
+    }
+
+    private static Job job(Long id, LocalDateTime createdAt) {
+        Job job = Job.builder().id(id).title("Job " + id).build();
+        job.setCreatedAt(createdAt);
+        return job;
+    }
+
+    private static KeysetScrollPosition keyset(Job job) {
+        return ScrollPosition.forward(Map.of("createdAt", job.getCreatedAt(), "id", job.getId()));
+    }
+}
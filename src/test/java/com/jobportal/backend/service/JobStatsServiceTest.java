@@ -0,0 +1,154 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.Application.ApplicationStatus;
+import com.jobportal.backend.repository.ApplicationRepository;
+import com.jobportal.backend.repository.JobRepository;
+import com.jobportal.backend.repository.JobStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatsServiceTest {
+
+    @Mock
+    private JobStatsRepository jobStatsRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobStatsService jobStatsService;
+
+    @BeforeEach
+    void setUp() {
+        jobStatsService = new JobStatsService(jobStatsRepository, applicationRepository, jobRepository,
+                transactionManager);
+    }
+
+    @Test
+    void recordTransition_MovesOneApplicantBetweenCounters() {
+        when(jobStatsRepository.addDeltas(1L, -1, 1, 0, 0, 0)).thenReturn(1);
+
+        jobStatsService.recordTransition(1L, ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED);
+
+        verify(jobStatsRepository).addDeltas(1L, -1, 1, 0, 0, 0);
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void recordTransition_SameStatus_DoesNothing() {
+        jobStatsService.recordTransition(1L, ApplicationStatus.REJECTED, ApplicationStatus.REJECTED);
+
+        verifyNoInteractions(jobStatsRepository, applicationRepository);
+    }
+
+    @Test
+    void rebuild_LocksJobsBeforeOneGroupedCount() {
+        // Arrange: job 2 has no applications
+        LocalDateTime earlier = LocalDateTime.of(2024, 1, 1, 9, 0);
+        LocalDateTime later = earlier.plusDays(2);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, ApplicationStatus.APPLIED, 5L, earlier});
+        rows.add(new Object[]{1L, ApplicationStatus.SHORTLISTED, 2L, later});
+        rows.add(new Object[]{1L, ApplicationStatus.INTERVIEW, 1L, earlier});
+        rows.add(new Object[]{1L, ApplicationStatus.OFFER, 1L, earlier});
+        when(jobRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(applicationRepository.countByJobAndStatus(List.of(1L, 2L))).thenReturn(rows);
+
+        // Act
+        int rebuilt = jobStatsService.rebuild();
+
+        // Assert
+        assertEquals(2, rebuilt);
+        InOrder inOrder = inOrder(jobStatsRepository, applicationRepository);
+        inOrder.verify(jobStatsRepository).lockOrCreate(List.of(1L, 2L));
+        inOrder.verify(applicationRepository).countByJobAndStatus(List.of(1L, 2L));
+        inOrder.verify(jobStatsRepository).overwrite(1L, 5, 2, 0, 2, 0, later);
+        inOrder.verify(jobStatsRepository).overwrite(2L, 0, 0, 0, 0, 0, null);
+        verify(transactionManager).commit(any());
+        verify(jobStatsRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    void rebuild_ManyJobs_CountsOneChunkPerTransaction() {
+        // Arrange
+        List<Long> jobIds = LongStream.rangeClosed(1, 501).boxed().toList();
+        when(jobRepository.findAllIds()).thenReturn(jobIds);
+        when(applicationRepository.countByJobAndStatus(any())).thenReturn(List.of());
+
+        // Act
+        jobStatsService.rebuild();
+
+        // Assert
+        verify(applicationRepository).countByJobAndStatus(jobIds.subList(0, 500));
+        verify(applicationRepository).countByJobAndStatus(List.of(501L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void recordApplications_MissingRow_RecountsUnderLockInCallerTransaction() {
+        // Arrange
+        LocalDateTime appliedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{3L, ApplicationStatus.APPLIED, 4L, appliedAt});
+        when(jobStatsRepository.addApplications(3L, 1, appliedAt)).thenReturn(0);
+        when(applicationRepository.countByJobAndStatus(List.of(3L))).thenReturn(rows);
+
+        // Act
+        jobStatsService.recordApplications(3L, 1, appliedAt);
+
+        // Assert
+        InOrder inOrder = inOrder(jobStatsRepository, applicationRepository);
+        inOrder.verify(jobStatsRepository).lockOrCreate(List.of(3L));
+        inOrder.verify(applicationRepository).countByJobAndStatus(List.of(3L));
+        inOrder.verify(jobStatsRepository).overwrite(3L, 4, 0, 0, 0, 0, appliedAt);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void backfillMissing_EveryJobHasStats_DoesNotRebuild() {
+        // Arrange
+        when(jobStatsRepository.findJobIdsWithoutStats()).thenReturn(List.of());
+
+        // Act
+        jobStatsService.backfillMissing();
+
+        // Assert
+        verify(jobStatsRepository, never()).lockOrCreate(any());
+        verifyNoInteractions(applicationRepository, jobRepository, transactionManager);
+    }
+
+    @Test
+    void backfillMissing_RebuildsOnlyJobsWithoutStats() {
+        // Arrange
+        when(jobStatsRepository.findJobIdsWithoutStats()).thenReturn(List.of(4L));
+        when(applicationRepository.countByJobAndStatus(List.of(4L))).thenReturn(List.of());
+
+        // Act
+        jobStatsService.backfillMissing();
+
+        // Assert
+        verify(jobStatsRepository).lockOrCreate(List.of(4L));
+        verify(jobStatsRepository).overwrite(4L, 0, 0, 0, 0, 0, null);
+        verifyNoInteractions(jobRepository);
+    }
+}
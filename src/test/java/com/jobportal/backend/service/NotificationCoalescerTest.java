@@ -0,0 +1,61 @@
+package com.jobportal.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationCoalescer(notificationService);
+    }
+
+    @Test
+    void flush_SeveralApplications_RecordsOneBatchPerJob() {
+        // Arrange
+        coalescer.applicationsReceived(1L, 10L, "Engineer", "a@test.com", 1);
+        coalescer.applicationsReceived(1L, 10L, "Engineer", "b@test.com", 2);
+        coalescer.applicationsReceived(1L, 11L, "Designer", "c@test.com", 1);
+
+        // Act
+        coalescer.flush();
+        coalescer.flush();
+
+        // Assert
+        verify(notificationService).recordApplications(1L, 10L, "Engineer", "b@test.com", 3);
+        verify(notificationService).recordApplications(1L, 11L, "Designer", "c@test.com", 1);
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    @Test
+    void flush_WriteFails_KeepsCountForNextWindow() {
+        // Arrange
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(notificationService).recordApplications(1L, 10L, "Engineer", "a@test.com", 2);
+        coalescer.applicationsReceived(1L, 10L, "Engineer", "a@test.com", 2);
+
+        // Act
+        coalescer.flush();
+        coalescer.applicationsReceived(1L, 10L, "Engineer", "b@test.com", 1);
+        coalescer.flush();
+
+        // Assert
+        verify(notificationService).recordApplications(1L, 10L, "Engineer", "b@test.com", 3);
+        verify(notificationService, times(2)).recordApplications(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+    }
+}
@@ -0,0 +1,171 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.NotificationEvent;
+import com.jobportal.backend.dto.NotificationFeedResponse;
+import com.jobportal.backend.model.Notification;
+import com.jobportal.backend.repository.NotificationRepository;
+import com.jobportal.backend.repository.UserRepository;
+import com.jobportal.backend.util.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private UnreadNotificationCounter unreadCounter;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        unreadCounter = new UnreadNotificationCounter(60);
+        notificationService = new NotificationService(notificationRepository, userRepository, securityUtils,
+                unreadCounter, messagingTemplate, new SimpleMeterRegistry(), 90, 60);
+        lenient().when(securityUtils.getCurrentUserId()).thenReturn(1L);
+    }
+
+    @Test
+    void getMyNotifications_MorePagesFollow_ReturnsCursorOfLastItem() {
+        // Arrange: one row beyond the requested page
+        when(notificationRepository.findByUserIdOrderByIdDesc(1L, Limit.of(3)))
+                .thenReturn(List.of(notification(9L), notification(7L), notification(4L)));
+
+        // Act
+        NotificationFeedResponse feed = notificationService.getMyNotifications(null, 2);
+
+        // Assert
+        assertEquals(List.of(9L, 7L), feed.getContent().stream().map(n -> n.getId()).toList());
+        assertTrue(feed.isHasNext());
+        assertEquals(7L, feed.getNextCursor());
+    }
+
+    @Test
+    void getMyNotifications_WithCursor_ContinuesBelowItUpToLastPage() {
+        // Arrange
+        when(notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(1L, 7L, Limit.of(3)))
+                .thenReturn(List.of(notification(4L)));
+
+        // Act
+        NotificationFeedResponse feed = notificationService.getMyNotifications(7L, 2);
+
+        // Assert
+        assertEquals(1, feed.getContent().size());
+        assertFalse(feed.isHasNext());
+        assertNull(feed.getNextCursor());
+        verify(notificationRepository, never()).findByUserIdOrderByIdDesc(anyLong(), any());
+    }
+
+    @Test
+    void getMyNotifications_OversizedPage_IsCapped() {
+        // Arrange
+        when(notificationRepository.findByUserIdOrderByIdDesc(1L, Limit.of(101))).thenReturn(List.of());
+
+        // Act
+        NotificationFeedResponse feed = notificationService.getMyNotifications(null, 5000);
+
+        // Assert
+        assertTrue(feed.getContent().isEmpty());
+        assertNull(feed.getNextCursor());
+    }
+
+    @Test
+    void markAllAsRead_UpToId_LowersTrackedCounterAndPushesIt() {
+        // Arrange
+        unreadCounter.get(1L, () -> 5);
+        when(notificationRepository.markAllAsRead(1L, 20L)).thenReturn(3);
+
+        // Act
+        int updated = notificationService.markAllAsRead(20L);
+
+        // Assert
+        assertEquals(3, updated);
+        assertEquals(2, unreadCounter.get(1L, () -> 0));
+        verify(messagingTemplate).convertAndSend(eq("/topic/user/1/notifications"),
+                argThat((NotificationEvent event) -> event.getType() == NotificationEvent.Type.UNREAD_COUNT
+                        && event.getUnreadCount() == 2));
+    }
+
+    @Test
+    void markAllAsRead_NoUpToIdAndNothingUnread_LeavesCounterAlone() {
+        // Arrange
+        unreadCounter.get(1L, () -> 0);
+        when(notificationRepository.markAllAsRead(1L, Long.MAX_VALUE)).thenReturn(0);
+
+        // Act
+        int updated = notificationService.markAllAsRead(null);
+
+        // Assert
+        assertEquals(0, updated);
+        assertEquals(0, unreadCounter.get(1L, () -> 0));
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void purgeReadNotifications_FullBatch_KeepsDeletingUntilShortBatch() {
+        // Arrange
+        List<Long> fullBatch = LongStream.rangeClosed(1, 1000).boxed().toList();
+        List<Long> lastBatch = List.of(1001L, 1002L);
+        when(notificationRepository.findReadIdsCreatedBefore(any(), eq(Limit.of(1000))))
+                .thenReturn(fullBatch, lastBatch);
+        when(notificationRepository.deleteByIds(fullBatch)).thenReturn(1000);
+        when(notificationRepository.deleteByIds(lastBatch)).thenReturn(2);
+        LocalDateTime before = LocalDateTime.now().minusDays(90);
+
+        // Act
+        notificationService.purgeReadNotifications();
+
+        // Assert
+        verify(notificationRepository, times(2)).findReadIdsCreatedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(before.plusMinutes(1))), any());
+        verify(notificationRepository, times(2)).deleteByIds(any());
+    }
+
+    @Test
+    void purgeReadNotifications_NothingToDelete_IssuesNoDelete() {
+        // Arrange
+        when(notificationRepository.findReadIdsCreatedBefore(any(), any())).thenReturn(List.of());
+
+        // Act
+        notificationService.purgeReadNotifications();
+
+        // Assert
+        verify(notificationRepository, never()).deleteByIds(any());
+    }
+
+    private Notification notification(Long id) {
+        return Notification.builder()
+                .id(id)
+                .message("Message " + id)
+                .aggregateCount(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.PresenceEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        // Expires after 3 ticks without activity; typing events throttled to one per minute
+        presenceService = new PresenceService(messagingTemplateProvider, new SimpleMeterRegistry(), 3000, 1000, 60000);
+    }
+
+    @Test
+    void advance_IdleSessionExpires_ActiveSessionStays() {
+        // Arrange
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        presenceService.joinRoom("idle", 1L, 10L);
+        presenceService.touch("active", 2L);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            presenceService.advance();
+            presenceService.touch("active", 2L);
+        }
+
+        // Assert
+        assertFalse(presenceService.isOnline(1L));
+        assertTrue(presenceService.isOnline(2L));
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat/10/presence"),
+                eq(PresenceEvent.builder().userId(1L).online(false).build()));
+    }
+
+    @Test
+    void disconnect_OtherSessionOpen_StaysOnlineWithoutEvent() {
+        // Arrange
+        presenceService.touch("tab-1", 1L);
+        presenceService.touch("tab-2", 1L);
+
+        // Act
+        presenceService.disconnect("tab-1");
+
+        // Assert
+        assertTrue(presenceService.isOnline(1L));
+        verifyNoInteractions(messagingTemplateProvider);
+    }
+
+    @Test
+    void acceptTyping_ThrottlesRepeatsAndRequiresSubscription() {
+        // Arrange
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        presenceService.joinRoom("session", 1L, 10L);
+
+        // Act & Assert
+        assertFalse(presenceService.acceptTyping("session", 11L, true));
+        assertTrue(presenceService.acceptTyping("session", 10L, true));
+        assertFalse(presenceService.acceptTyping("session", 10L, true));
+        assertTrue(presenceService.acceptTyping("session", 10L, false));
+        assertFalse(presenceService.acceptTyping("session", 10L, false));
+        assertTrue(presenceService.acceptTyping("session", 10L, true));
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+}
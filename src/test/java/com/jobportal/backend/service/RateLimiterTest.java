@@ -0,0 +1,87 @@
+package com.jobportal.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiter rateLimiter = new RateLimiter(meterRegistry, true, 3);
+    private final RateLimiter.Policy policy = RateLimiter.Policy.parse("test", "5/PT1H");
+
+    @Test
+    void tryAcquire_ConcurrentBurst_AdmitsExactlyCapacity() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        Callable<Long> request = () -> rateLimiter.tryAcquire(policy, "user:1", "http");
+
+        // Act
+        List<Future<Long>> results = executor.invokeAll(IntStream.range(0, 100).mapToObj(i -> request).toList());
+        executor.shutdown();
+
+        // Assert
+        long admitted = 0;
+        for (Future<Long> result : results) {
+            if (result.get() == 0) {
+                admitted++;
+            } else {
+                // One token per 12 minutes
+                assertTrue(result.get() > 600 && result.get() <= 720);
+            }
+        }
+        assertEquals(5, admitted);
+        assertEquals(95, meterRegistry.get("rate.limit.throttled").tag("policy", "test").counter().count());
+    }
+
+    @Test
+    void tryAcquire_BeyondMaxKeys_SharesOverflowBucket() {
+        // Arrange
+        for (int user = 1; user <= 3; user++) {
+            rateLimiter.tryAcquire(policy, "user:" + user, "http");
+        }
+
+        // Act
+        long throttled = IntStream.rangeClosed(4, 9)
+                .mapToLong(user -> rateLimiter.tryAcquire(policy, "user:" + user, "http"))
+                .filter(retryAfter -> retryAfter > 0)
+                .count();
+
+        // Assert
+        assertEquals(1, throttled);
+        assertEquals(0, rateLimiter.tryAcquire(policy, "user:1", "http"));
+    }
+
+    @Test
+    void evictIdle_KeepsOnlyBucketsStillRefilling() {
+        // Arrange
+        RateLimiter.Policy instant = RateLimiter.Policy.parse("instant", "1/PT0.000001S");
+        rateLimiter.tryAcquire(instant, "ip:10.0.0.1", "http");
+        rateLimiter.tryAcquire(policy, "ip:10.0.0.1", "http");
+
+        // Act
+        rateLimiter.evictIdle();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("rate.limit.buckets").gauge().value());
+    }
+
+    @Test
+    void tryAcquire_Disabled_AlwaysAdmits() {
+        // Arrange
+        RateLimiter disabled = new RateLimiter(meterRegistry, false, 3);
+
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(0, disabled.tryAcquire(policy, "user:1", "stomp"));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.dto.ReadReceipt;
+import com.jobportal.backend.repository.ChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptCoalescerTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ReadReceiptCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ReadReceiptCoalescer(chatRoomRepository, messagingTemplateProvider);
+    }
+
+    @Test
+    void flush_RepeatedReads_WriteHighestWatermarkOnceAndNotifyRoom() {
+        // Arrange
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        when(chatRoomRepository.advanceCandidateLastRead(10L, 42L)).thenReturn(1);
+        coalescer.markRead(10L, 2L, false, 40L);
+        coalescer.markRead(10L, 2L, false, 42L);
+        coalescer.markRead(10L, 2L, false, 41L);
+
+        // Act
+        assertEquals(42L, coalescer.pendingLastRead(10L, 2L));
+        coalescer.flush();
+        coalescer.flush();
+
+        // Assert
+        verify(chatRoomRepository, times(1)).advanceCandidateLastRead(anyLong(), anyLong());
+        verify(chatRoomRepository, never()).advanceRecruiterLastRead(anyLong(), anyLong());
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat/10/read"),
+                eq(ReadReceipt.builder().chatRoomId(10L).userId(2L).lastReadMessageId(42L).build()));
+        assertNull(coalescer.pendingLastRead(10L, 2L));
+    }
+
+    @Test
+    void flush_WatermarkAlreadyAhead_SendsNoReceipt() {
+        // Arrange
+        when(chatRoomRepository.advanceRecruiterLastRead(10L, 5L)).thenReturn(0);
+        coalescer.markRead(10L, 1L, true, 5L);
+
+        // Act
+        coalescer.flush();
+
+        // Assert
+        verifyNoInteractions(messagingTemplateProvider);
+        assertNull(coalescer.pendingLastRead(10L, 1L));
+    }
+
+    @Test
+    void flush_WriteFails_KeepsWatermarkForNextWindow() {
+        // Arrange
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        when(chatRoomRepository.advanceRecruiterLastRead(10L, 7L))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(1);
+        coalescer.markRead(10L, 1L, true, 7L);
+
+        // Act
+        coalescer.flush();
+        Long pendingAfterFailure = coalescer.pendingLastRead(10L, 1L);
+        coalescer.flush();
+
+        // Assert
+        assertEquals(7L, pendingAfterFailure);
+        assertNull(coalescer.pendingLastRead(10L, 1L));
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+}
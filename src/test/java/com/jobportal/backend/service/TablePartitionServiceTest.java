@@ -0,0 +1,161 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.model.ArchivedPartition;
+import com.jobportal.backend.repository.ArchivedPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class TablePartitionServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Mock
+    private ArchivedPartitionRepository archivedPartitionRepository;
+
+    @TempDir
+    private Path archiveDir;
+
+    private DriverManagerDataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private TablePartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS chat_messages, chat_messages_legacy, application_status_history, "
+                + "application_status_history_legacy CASCADE");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        partitionService = new TablePartitionService(jdbcTemplate, transactionManager,
+                archivedPartitionRepository, true, 3, 12, 24, 7, archiveDir.toString());
+    }
+
+    @Test
+    void initialize_PopulatedTables_KeepsRecentRowsInLegacyPartition() {
+        // Arrange
+        jdbcTemplate.execute("CREATE TABLE chat_messages (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "chat_room_id BIGINT NOT NULL, content VARCHAR(2000) NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO chat_messages (chat_room_id, content, created_at) VALUES "
+                + "(1, 'old', now() - INTERVAL '3 months'), (1, 'recent', now())");
+        // Hibernate leaves the history timestamp nullable
+        jdbcTemplate.execute("CREATE TABLE application_status_history (id BIGINT GENERATED BY DEFAULT AS IDENTITY "
+                + "PRIMARY KEY, application_id BIGINT NOT NULL, timestamp TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO application_status_history (application_id, timestamp) VALUES "
+                + "(1, now()), (2, NULL)");
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+        // Act
+        partitionService.initialize();
+
+        // Assert
+        for (String table : new String[]{"chat_messages", "application_status_history"}) {
+            assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p "
+                    + "JOIN pg_class c ON c.oid = p.partrelid WHERE c.relname = ?)", Boolean.class, table));
+            assertEquals("FOR VALUES FROM (MINVALUE) TO ('" + thisMonth.plusMonths(1) + " 00:00:00')",
+                    jdbcTemplate.queryForObject("SELECT pg_get_expr(relpartbound, oid) FROM pg_class WHERE relname = ?",
+                            String.class, table + "_legacy"));
+            assertNull(regclass(table + "_p" + thisMonth.format(SUFFIX)));
+            assertNotNull(regclass(table + "_p" + thisMonth.plusMonths(3).format(SUFFIX)));
+        }
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Integer.class));
+        jdbcTemplate.update("INSERT INTO chat_messages (chat_room_id, content, created_at) VALUES "
+                + "(1, 'now', now()), (1, 'later', now() + INTERVAL '2 months')");
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT MAX(id) FROM chat_messages_legacy", Long.class));
+    }
+
+    @Test
+    void initialize_EmptyTable_PartitionsFromCurrentMonth() {
+        // Arrange
+        jdbcTemplate.execute("CREATE TABLE chat_messages (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "chat_room_id BIGINT NOT NULL, content VARCHAR(2000) NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+        // Act
+        partitionService.initialize();
+        partitionService.initialize();
+
+        // Assert
+        assertNotNull(regclass("chat_messages_p" + thisMonth.format(SUFFIX)));
+        assertEquals(1, jdbcTemplate.update("INSERT INTO chat_messages (chat_room_id, content, created_at) "
+                + "VALUES (1, 'first', now())"));
+    }
+
+    @Test
+    void ensureAvailable_InsideReadOnlyTransaction_RehydratesArchivedPartition() throws Exception {
+        // Arrange: a converted table whose January 2020 partition was archived
+        jdbcTemplate.execute("CREATE TABLE chat_messages (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "chat_room_id BIGINT NOT NULL, content VARCHAR(2000) NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        Path file = archiveDir.resolve("chat_messages_p202001.csv.gz");
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8)) {
+            writer.write("id,chat_room_id,content,created_at\n1,5,archived,2020-01-15 10:00:00\n");
+        }
+        ArchivedPartition archived = ArchivedPartition.builder()
+                .partitionName("chat_messages_p202001")
+                .tableName(TablePartitionService.CHAT_MESSAGES)
+                .rangeStart(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .rangeEnd(LocalDateTime.of(2020, 2, 1, 0, 0))
+                .filePath(file.toString())
+                .rowCount(1)
+                .build();
+        // Looked up for every partitioned table; only chat_messages has an archive
+        lenient().when(archivedPartitionRepository.findByTableNameAndRehydratedAtIsNull(TablePartitionService.CHAT_MESSAGES))
+                .thenReturn(List.of(archived));
+        when(archivedPartitionRepository.findByTableNameAndRehydratedAtIsNullAndRangeEndGreaterThan(
+                eq(TablePartitionService.CHAT_MESSAGES), any())).thenReturn(List.of(archived));
+        partitionService.initialize();
+        jdbcTemplate.execute("ALTER TABLE chat_messages DETACH PARTITION chat_messages_legacy");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act: chat history reads run in read-only transactions
+        Integer visible = readOnly.execute(status -> {
+            partitionService.ensureAvailable(TablePartitionService.CHAT_MESSAGES, LocalDateTime.of(2020, 1, 10, 0, 0));
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages WHERE chat_room_id = 5",
+                    Integer.class);
+        });
+
+        // Assert
+        assertEquals(1, visible);
+        assertNotNull(archived.getRehydratedAt());
+        verify(archivedPartitionRepository).save(archived);
+    }
+
+    private String regclass(String name) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, name);
+    }
+}
@@ -0,0 +1,150 @@
+package com.jobportal.backend.service;
+
+import com.jobportal.backend.config.JwtService;
+import com.jobportal.backend.config.TokenRevocationList;
+import com.jobportal.backend.dto.AuthResponse;
+import com.jobportal.backend.exception.InvalidTokenException;
+import com.jobportal.backend.exception.TooManyRequestsException;
+import com.jobportal.backend.model.RefreshToken;
+import com.jobportal.backend.model.User;
+import com.jobportal.backend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final String SECRET = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY3ODkwIUAjJCVeJiooKS0rPQ==";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtService jwtService;
+    private TokenRevocationList revocationList;
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, Duration.ofMinutes(15));
+        revocationList = new TokenRevocationList(jwtService, new SimpleMeterRegistry(), 100);
+        tokenService = new TokenService(refreshTokenRepository, jwtService, revocationList, Duration.ofDays(14),
+                new RateLimiter(new SimpleMeterRegistry(), true, 100), "2/PT1M");
+        user = User.builder()
+                .id(7L)
+                .email("candidate@example.com")
+                .role(User.Role.CANDIDATE)
+                .build();
+    }
+
+    @Test
+    void refresh_ActiveToken_RotatesWithinFamily() {
+        // Arrange
+        AuthResponse issued = tokenService.issue(user);
+        RefreshToken stored = captureSaved();
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(stored.getId()), any())).thenReturn(1);
+
+        // Act
+        AuthResponse refreshed = tokenService.refresh(issued.getRefreshToken());
+
+        // Assert
+        assertNotEquals(issued.getRefreshToken(), refreshed.getRefreshToken());
+        assertEquals(7L, jwtService.parseAccessToken(refreshed.getAccessToken()).userId());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        assertEquals(stored.getFamilyId(), saved.getValue().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void refresh_ReusedToken_RevokesFamily() {
+        // Arrange
+        AuthResponse issued = tokenService.issue(user);
+        RefreshToken stored = captureSaved();
+        stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(issued.getRefreshToken()));
+        verify(refreshTokenRepository).revokeFamily(eq(stored.getFamilyId()), any());
+        verify(refreshTokenRepository, times(1)).save(any());
+    }
+
+    @Test
+    void refresh_FamilyOverLimit_ThrottlesWithoutConsumingToken() {
+        // Arrange: two refreshes per minute per family
+        AuthResponse issued = tokenService.issue(user);
+        RefreshToken stored = captureSaved();
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq(stored.getId()), any())).thenReturn(1);
+        tokenService.refresh(issued.getRefreshToken());
+        tokenService.refresh(issued.getRefreshToken());
+        clearInvocations(refreshTokenRepository);
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> tokenService.refresh(issued.getRefreshToken()));
+
+        // Assert
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        verify(refreshTokenRepository, never()).revokeIfActive(any(), any());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void refresh_OtherFamilyOverLimit_DoesNotThrottle() {
+        // Arrange: another session of the same user used up its family's budget
+        AuthResponse busy = tokenService.issue(user);
+        RefreshToken busyStored = captureSaved();
+        when(refreshTokenRepository.findByTokenHash(busyStored.getTokenHash())).thenReturn(Optional.of(busyStored));
+        when(refreshTokenRepository.revokeIfActive(any(), any())).thenReturn(1);
+        tokenService.refresh(busy.getRefreshToken());
+        tokenService.refresh(busy.getRefreshToken());
+        clearInvocations(refreshTokenRepository);
+        AuthResponse other = tokenService.issue(user);
+        RefreshToken otherStored = captureSaved();
+        otherStored.setId(2L);
+        when(refreshTokenRepository.findByTokenHash(otherStored.getTokenHash())).thenReturn(Optional.of(otherStored));
+
+        // Act & Assert
+        assertNotNull(tokenService.refresh(other.getRefreshToken()));
+    }
+
+    @Test
+    void logout_RevokesPresentedAccessToken() {
+        // Arrange
+        AuthResponse issued = tokenService.issue(user);
+        JwtService.AccessToken accessToken = jwtService.parseAccessToken(issued.getAccessToken());
+
+        // Act
+        tokenService.logout(issued.getRefreshToken(), accessToken);
+
+        // Assert
+        assertTrue(revocationList.isRevoked(accessToken));
+        assertFalse(revocationList.isRevoked(jwtService.parseAccessToken(tokenService.issue(user).getAccessToken())));
+    }
+
+    private RefreshToken captureSaved() {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        RefreshToken token = saved.getValue();
+        token.setId(1L);
+        return token;
+    }
+}
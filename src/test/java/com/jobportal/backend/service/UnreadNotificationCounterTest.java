@@ -0,0 +1,85 @@
+package com.jobportal.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnreadNotificationCounterTest {
+
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UnreadNotificationCounter(60);
+    }
+
+    @Test
+    void get_SeedsOnceThenServesFromMemory() {
+        // Arrange
+        AtomicInteger seeds = new AtomicInteger();
+
+        // Act
+        int first = counter.get(1L, () -> {
+            seeds.incrementAndGet();
+            return 4;
+        });
+        OptionalInt afterAdd = counter.add(1L, 1);
+        int second = counter.get(1L, () -> {
+            seeds.incrementAndGet();
+            return 0;
+        });
+
+        // Assert
+        assertEquals(4, first);
+        assertEquals(OptionalInt.of(5), afterAdd);
+        assertEquals(5, second);
+        assertEquals(1, seeds.get());
+    }
+
+    @Test
+    void get_SeedReadsAnotherUser_DoesNotHoldMapLock() {
+        // Users 7 and 23 share a bin of the initial map; seeding inside computeIfAbsent would fail
+        int count = counter.get(7L, () -> counter.get(23L, () -> 2) + 1);
+
+        assertEquals(3, count);
+        assertEquals(2, counter.get(23L, () -> 0));
+    }
+
+    @Test
+    void add_UntrackedUser_ReturnsEmpty() {
+        assertTrue(counter.add(1L, 1).isEmpty());
+        assertEquals(-1, counter.version(1L));
+    }
+
+    @Test
+    void reconcile_CounterChangedDuringQuery_KeepsChange() {
+        // Arrange
+        counter.get(1L, () -> 2);
+        long version = counter.version(1L);
+        // A notification arrives after the reconcile query read 2
+        counter.add(1L, 1);
+
+        // Act
+        boolean corrected = counter.reconcile(1L, 2, version);
+
+        // Assert
+        assertFalse(corrected);
+        assertEquals(3, counter.get(1L, () -> 0));
+    }
+
+    @Test
+    void reconcile_DriftedCounter_IsCorrected() {
+        // Arrange
+        counter.get(1L, () -> 2);
+        long version = counter.version(1L);
+
+        // Act & Assert
+        assertTrue(counter.reconcile(1L, 5, version));
+        assertEquals(5, counter.get(1L, () -> 0));
+        assertFalse(counter.reconcile(1L, 5, counter.version(1L)));
+    }
+}